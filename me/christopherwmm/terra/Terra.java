@@ -9,6 +9,7 @@ import me.christopherwmm.terra.noise.Noise;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
 import me.christopherwmm.terra.noise.perlin.PerlinNoiseGenerator;
+import me.christopherwmm.terra.noise.simplex.SimplexNoiseGenerator;
 import me.christopherwmm.terra.noise.voronoi.VoronoiNoiseGenerator;
 import me.christopherwmm.terra.noise.white.WhiteNoiseGenerator;
 
@@ -27,6 +28,19 @@ public class Terra {
 
 		new NoiseFrame(perlin);
 
+		Noise simplex = new SimplexNoiseGenerator()
+							.height(256)
+							.width(256)
+							.seed(0)
+							.frequency(2)
+							.octaves(3)
+							.persistence(.5)
+							.lacunarity(2)
+							.noiseMask(0.0)
+							.generate();
+
+		new NoiseFrame(simplex);
+
 		NoiseMask mask = new NoiseMaskGenerator()
 							.height(256)
 							.width(256)
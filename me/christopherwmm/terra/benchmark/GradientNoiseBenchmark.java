@@ -0,0 +1,62 @@
+package me.christopherwmm.terra.benchmark;
+
+import me.christopherwmm.terra.Generator;
+import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.perlin.PerlinNoiseGenerator;
+import me.christopherwmm.terra.noise.simplex.SimplexNoiseGenerator;
+
+/**
+ * A simple throughput benchmark comparing the {@link PerlinNoiseGenerator} against the {@link SimplexNoiseGenerator} with identical parameters.
+ * Each generator is warmed up before being measured, and results are reported in megapixels per second.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class GradientNoiseBenchmark {
+	private static final int SIZE = 1024;
+	private static final int OCTAVES = 8;
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int MEASURED_ITERATIONS = 10;
+
+	public static void main(String[] args) {
+		PerlinNoiseGenerator perlin = new PerlinNoiseGenerator()
+							.height(SIZE)
+							.width(SIZE)
+							.seed(0)
+							.frequency(4)
+							.octaves(OCTAVES)
+							.persistence(.5)
+							.lacunarity(2);
+
+		SimplexNoiseGenerator simplex = new SimplexNoiseGenerator()
+							.height(SIZE)
+							.width(SIZE)
+							.seed(0)
+							.frequency(4)
+							.octaves(OCTAVES)
+							.persistence(.5)
+							.lacunarity(2);
+
+		report("Perlin", measure(perlin));
+		report("Simplex", measure(simplex));
+	}
+
+	private static double measure(final Generator<? extends Noise> generator) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			generator.generate();
+		}
+
+		long start = System.nanoTime();
+
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			generator.generate();
+		}
+
+		return (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+	}
+
+	private static void report(final String name, final double nanosecondsPerMap) {
+		double megapixelsPerSecond = ((double) SIZE * SIZE / 1_000_000) / (nanosecondsPerMap / 1_000_000_000);
+		System.out.printf("%-8s %4dx%-4d %d octaves: %8.2f ms/map, %7.2f MP/s%n", name, SIZE, SIZE, OCTAVES, nanosecondsPerMap / 1_000_000, megapixelsPerSecond);
+	}
+}
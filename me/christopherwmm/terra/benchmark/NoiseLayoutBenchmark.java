@@ -0,0 +1,97 @@
+package me.christopherwmm.terra.benchmark;
+
+import me.christopherwmm.terra.gui.Image;
+import me.christopherwmm.terra.noise.BlendMode;
+import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.perlin.PerlinNoiseGenerator;
+import me.christopherwmm.terra.noise.white.WhiteNoiseGenerator;
+
+/**
+ * A simple benchmark showing the memory locality gain of the row-major {@link Noise} storage on blending and image conversion.
+ * Each operation is compared against the previous column-by-column traversal of a 2D array, which strides across a separate row object for every value.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class NoiseLayoutBenchmark {
+	private static final int SIZE = 2048;
+	private static final int WARMUP_ITERATIONS = 5;
+	private static final int MEASURED_ITERATIONS = 10;
+
+	public static void main(String[] args) {
+		Noise perlin = new PerlinNoiseGenerator()
+							.height(SIZE)
+							.width(SIZE)
+							.seed(0)
+							.frequency(4)
+							.octaves(4)
+							.generate();
+
+		Noise white = new WhiteNoiseGenerator()
+							.height(SIZE)
+							.width(SIZE)
+							.seed(0)
+							.generate();
+
+		double[][] perlinArray = perlin.getNoise();
+		double[][] whiteArray = white.getNoise();
+
+		report("blend, column-major 2D", measure(() -> blendColumnMajor(BlendMode.Overlay, perlinArray, whiteArray)));
+		report("blend, row-major", measure(() -> perlin.blend(BlendMode.Overlay, white)));
+		report("image, column-major 2D", measure(() -> imageColumnMajor(perlinArray)));
+		report("image, row-major", measure(() -> perlin.getNoiseImage()));
+		report("image, parallel", measure(() -> perlin.getNoiseImage(Image.TYPE_INT_ARGB, true)));
+		report("image, byte gray", measure(() -> perlin.getNoiseImage(Image.TYPE_BYTE_GRAY, true)));
+		report("image, ushort gray", measure(() -> perlin.getNoiseImage(Image.TYPE_USHORT_GRAY, true)));
+	}
+
+	/**
+	 * The blend loop used before {@link Noise} values were stored in a single row-major array.
+	 */
+	private static double[][] blendColumnMajor(final BlendMode mode, final double[][] noise1, final double[][] noise2) {
+		double[][] blended = new double[SIZE][SIZE];
+
+		for (int x = 0; x < SIZE; x++) {
+			for (int y = 0; y < SIZE; y++) {
+				blended[y][x] = mode.blend(noise1[y][x], noise2[y][x]);
+			}
+		}
+
+		return blended;
+	}
+
+	/**
+	 * The image conversion loop used before {@link Noise} values were stored in a single row-major array.
+	 */
+	private static Image imageColumnMajor(final double[][] noise) {
+		Image image = new Image(SIZE, SIZE, Image.TYPE_INT_ARGB);
+
+		for (int x = 0; x < SIZE; x++) {
+			for (int y = 0; y < SIZE; y++) {
+				int blue = (int)(noise[y][x] * 0xFF);
+				image.setRGB(x, y, 0xFF000000 + blue * 0x10000 + blue * 0x100 + blue);
+			}
+		}
+
+		return image;
+	}
+
+	private static double measure(final Runnable operation) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			operation.run();
+		}
+
+		long start = System.nanoTime();
+
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			operation.run();
+		}
+
+		return (System.nanoTime() - start) / (double) MEASURED_ITERATIONS;
+	}
+
+	private static void report(final String name, final double nanosecondsPerMap) {
+		double megapixelsPerSecond = ((double) SIZE * SIZE / 1_000_000) / (nanosecondsPerMap / 1_000_000_000);
+		System.out.printf("%-24s %4dx%-4d: %8.2f ms/map, %7.2f MP/s%n", name, SIZE, SIZE, nanosecondsPerMap / 1_000_000, megapixelsPerSecond);
+	}
+}
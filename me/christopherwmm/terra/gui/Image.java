@@ -3,6 +3,13 @@ package me.christopherwmm.terra.gui;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DataBufferUShort;
+import java.util.concurrent.ForkJoinPool;
+
+import me.christopherwmm.terra.noise.RowBands;
 
 /**
  * A improved subclass of {@link BufferedImage}.
@@ -34,6 +41,83 @@ public class Image extends BufferedImage implements Cloneable {
 		setData(image.getData());
 	}
 
+	/**
+	 * Returns a new grayscale {@link Image} object whose pixels are converted from the values within the interval <b>[0.0 - 1.0]</b> supplied one row at a time by the given {@link RowSource}.
+	 * Rows are written in row-major order straight into the {@link java.awt.image.DataBuffer} of the image, skipping the per-pixel color model conversion of {@link #setRGB(int, int, int)}.
+	 * {@link #TYPE_INT_ARGB} images store each value as an opaque gray of 8 bits per channel, while {@link #TYPE_BYTE_GRAY} and {@link #TYPE_USHORT_GRAY} images store a single 8 or 16 bit sample per pixel, clamping values outside of the interval.
+	 * When converting in parallel, the image is split into row bands that are converted across the common {@link ForkJoinPool}, so the {@link RowSource} must support reading different rows concurrently.
+	 * 
+	 * @param width The non-zero integer width of the new {@link Image} object.
+	 * @param height The non-zero integer height of the new {@link Image} object.
+	 * @param imageType The {@link #TYPE_INT_ARGB}, {@link #TYPE_BYTE_GRAY} or {@link #TYPE_USHORT_GRAY} integer color space of the new {@link Image} object.
+	 * @param rows The {@link RowSource} supplying each row of values.
+	 * @param parallel Whether the rows should be converted in parallel.
+	 * @return A new grayscale {@link Image} object representing the supplied values.
+	 * @throws IllegalArgumentException if the given {@link RowSource} is null or the given image type is not supported.
+	 * @since 1.1
+	 */
+	public static Image grayscale(final int width, final int height, final int imageType, final RowSource rows, final boolean parallel) throws IllegalArgumentException {
+		if (rows == null) {
+			throw new IllegalArgumentException("A grayscale image row source cannot be null.");
+		} else if (imageType != TYPE_INT_ARGB && imageType != TYPE_BYTE_GRAY && imageType != TYPE_USHORT_GRAY) {
+			throw new IllegalArgumentException("A grayscale image type must be TYPE_INT_ARGB, TYPE_BYTE_GRAY or TYPE_USHORT_GRAY. " + imageType + " is not supported.");
+		}
+
+		Image image = new Image(width, height, imageType);
+
+		if (parallel) {
+			RowBands.forEach(0, height, (startY, endY) -> image.writeGrayscaleBand(rows, startY, endY));
+		} else {
+			image.writeGrayscaleBand(rows, 0, height);
+		}
+
+		return image;
+	}
+
+	/**
+	 * Converts each row of the given band into the data bank of this {@link Image} object, whose rows are stored contiguously with a stride of its width.
+	 */
+	private void writeGrayscaleBand(final RowSource rows, final int startY, final int endY) {
+		int width = this.getWidth();
+		DataBuffer buffer = this.getRaster().getDataBuffer();
+		double[] row = new double[width];
+
+		for (int y = startY; y < endY; y++) {
+			rows.readRow(y, row);
+
+			int offset = y * width;
+
+			switch (this.getType()) {
+				case TYPE_INT_ARGB:
+					int[] argb = ((DataBufferInt) buffer).getData();
+
+					for (int x = 0; x < width; x++) {
+						argb[offset + x] = 0xFF000000 + (int)(row[x] * 0xFF) * 0x10101;
+					}
+
+					break;
+				case TYPE_BYTE_GRAY:
+					byte[] gray = ((DataBufferByte) buffer).getData();
+
+					for (int x = 0; x < width; x++) {
+						gray[offset + x] = (byte) Math.max(0, Math.min(0xFF, (int)(row[x] * 0xFF)));
+					}
+
+					break;
+				case TYPE_USHORT_GRAY:
+					short[] deepGray = ((DataBufferUShort) buffer).getData();
+
+					for (int x = 0; x < width; x++) {
+						deepGray[offset + x] = (short) Math.max(0, Math.min(0xFFFF, (int)(row[x] * 0xFFFF)));
+					}
+
+					break;
+				default:
+					throw new IllegalStateException("The image type " + this.getType() + " is not supported.");
+			}
+		}
+	}
+
 	/**
 	 * Returns a new {@link Image} object that is a deep copy of this {@link Image} object.
 	 * 
@@ -185,4 +269,22 @@ public class Image extends BufferedImage implements Cloneable {
 		scaleOperation.filter(this, scaledImage);
 		return scaledImage;
 	}
+
+	/**
+	 * A source of the rows of values converted by {@link Image#grayscale(int, int, int, RowSource, boolean)}.
+	 * 
+	 * @since 1.1
+	 * @author ChristopherWMM
+	 */
+	@FunctionalInterface
+	public static interface RowSource {
+		/**
+		 * Copies the values of the given row into the given double array.
+		 * 
+		 * @param y The integer index of the row being read.
+		 * @param row The double array, exactly as long as the width of the image, receiving the values of the row.
+		 * @since 1.1
+		 */
+		public abstract void readRow(final int y, final double[] row);
+	}
 }
@@ -0,0 +1,61 @@
+package me.christopherwmm.terra.noise;
+
+/**
+ * A kernel that blends a contiguous run of layer values onto a contiguous run of base values using a {@link BlendMode}.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+interface BlendKernel {
+	/** The name of the incubator module providing the Vector API. */
+	static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/** The fully qualified name of the {@link BlendKernel} backed by the Vector API. */
+	static final String VECTOR_KERNEL = "me.christopherwmm.terra.noise.VectorBlendKernel";
+
+	/**
+	 * Blends the given run of layer values onto the given run of base values, overwriting the base values.
+	 * Each result is interpolated between the base value and the blended value by the given opacity, and an opacity of zero leaves the base values untouched.
+	 *
+	 * @param mode The {@link BlendMode} used to blend each layer value onto its base value.
+	 * @param base The double array of base values the results are written into.
+	 * @param baseOffset The index of the first base value.
+	 * @param layer The double array of layer values.
+	 * @param layerOffset The index of the first layer value.
+	 * @param length The number of values being blended.
+	 * @param opacity The opacity of the layer within the interval <b>[0.0 - 1.0]</b>.
+	 * @since 1.1
+	 */
+	public abstract void blend(final BlendMode mode, final double[] base, final int baseOffset, final double[] layer, final int layerOffset, final int length, final double opacity);
+
+	/**
+	 * Returns the {@link BlendKernel} backed by the Vector API, falling back to the {@link ScalarBlendKernel} when the incubator module is absent.
+	 *
+	 * @return The fastest {@link BlendKernel} available to the running JVM.
+	 * @since 1.1
+	 */
+	static BlendKernel vectorized() {
+		return VectorKernelHolder.KERNEL;
+	}
+
+	/**
+	 * Lazily resolves the Vector API kernel so the incubator module is only linked when it is both requested and present.
+	 */
+	static final class VectorKernelHolder {
+		private static final BlendKernel KERNEL = loadVectorKernel();
+
+		private VectorKernelHolder() {}
+
+		private static BlendKernel loadVectorKernel() {
+			if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+				try {
+					return (BlendKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+				} catch (ReflectiveOperationException | LinkageError e) {
+					// Fall through to the scalar kernel.
+				}
+			}
+
+			return ScalarBlendKernel.INSTANCE;
+		}
+	}
+}
@@ -8,29 +8,29 @@ package me.christopherwmm.terra.noise;
  */
 public enum BlendMode {
 	// Darken
-	Darken((x, y) -> Math.min(x, y)),
-	Multiply((x, y) -> x * y),
-	ColorBurn((x, y) -> (y > 0) ? Math.max(1 - (1 - x) / y, 0) : 0),
-	LinearBurn((x, y) -> Math.max(x + y - 1, 0)),
+	Darken(ScalarBlendKernel::darken),
+	Multiply(ScalarBlendKernel::multiply),
+	ColorBurn(ScalarBlendKernel::colorBurn),
+	LinearBurn(ScalarBlendKernel::linearBurn),
 
 	// Lighten
-	Lighten((x, y) -> Math.max(x, y)),
-	ColorDodge((x, y) -> (y < 1) ? Math.min(x / (1 - y), 1) : 1),
-	LinearDodge((x, y) -> Math.min(x + y, 1)),
-	Screen((x, y) -> 1 - (1 - x) * (1 - y)),
+	Lighten(ScalarBlendKernel::lighten),
+	ColorDodge(ScalarBlendKernel::colorDodge),
+	LinearDodge(ScalarBlendKernel::linearDodge),
+	Screen(ScalarBlendKernel::screen),
 
 	// Contrast
-	Overlay((x, y) -> (x <= 0.5) ? (2 * x * y) : (1 - 2 * (1 - x) * (1 - y))),
-	SoftLight((x, y) -> (y <= 0.5) ? x * (y + 0.5) : 1 - (1 - x) * (1 - (y - 0.5))),
-	HardLight((x, y) -> (y <= 0.5) ? 2 * x * y : 1 - (1 - x) * (1 - 2 * (y - 0.5))),
-	VividLight((x, y) -> (y <= 0.5) ? ((y != 0) ? Math.max(1 - (1 - x) / (2 * y), 0) : 0) : ((y != 1) ? Math.min(x / (2 * (1 - y)), 1) : 1)),
-	LinearLight((x, y) -> Math.max(Math.min(x + 2 * y - 1, 1), 0)),
-	PinLight((x, y) -> (y <= 0.5) ? Math.min(x, 2 * y) : Math.max(x, 2 * (y - 0.5))),
-	HardMix((x, y) -> (y < 1 - x) ? 0 : 1),
+	Overlay(ScalarBlendKernel::overlay),
+	SoftLight(ScalarBlendKernel::softLight),
+	HardLight(ScalarBlendKernel::hardLight),
+	VividLight(ScalarBlendKernel::vividLight),
+	LinearLight(ScalarBlendKernel::linearLight),
+	PinLight(ScalarBlendKernel::pinLight),
+	HardMix(ScalarBlendKernel::hardMix),
 
 	// Comparative
-	Difference((x, y) -> Math.abs(y - x)),
-	Exclusion((x, y) -> 0.5 - 2 * (x - 0.5) * (y - 0.5));
+	Difference(ScalarBlendKernel::difference),
+	Exclusion(ScalarBlendKernel::exclusion);
 
 	private final BlendCalculator calculator;
 
@@ -50,6 +50,47 @@ public enum BlendMode {
 	public double blend(final double x, final double y) {
 		return calculator.blend(x, y);
 	}
+
+	/**
+	 * Blends a run of layer values onto a run of base values using this {@link BlendMode}, overwriting the base values.
+	 * The run is blended by a SIMD kernel when the JVM is started with <code>--add-modules jdk.incubator.vector</code>, and otherwise by a scalar loop; the results of both are bit-identical to calling {@link #blend(double, double)} on each pair of values.
+	 * 
+	 * @param base The double array of base values the blended values are written into.
+	 * @param baseOffset The index of the first base value.
+	 * @param layer The double array of layer values.
+	 * @param layerOffset The index of the first layer value.
+	 * @param length The number of values being blended.
+	 * @throws IllegalArgumentException if either array is null or either run falls outside of its array.
+	 * @since 1.1
+	 */
+	public void blend(final double[] base, final int baseOffset, final double[] layer, final int layerOffset, final int length) throws IllegalArgumentException {
+		blend(base, baseOffset, layer, layerOffset, length, 1);
+	}
+
+	/**
+	 * Blends a run of layer values onto a run of base values using this {@link BlendMode} with the given opacity, overwriting the base values.
+	 * Each result is interpolated between the base value and the blended value, so an opacity of one matches {@link #blend(double[], int, double[], int, int)} and an opacity of zero leaves the base values untouched.
+	 * 
+	 * @param base The double array of base values the blended values are written into.
+	 * @param baseOffset The index of the first base value.
+	 * @param layer The double array of layer values.
+	 * @param layerOffset The index of the first layer value.
+	 * @param length The number of values being blended.
+	 * @param opacity The opacity of the layer within the interval <b>[0.0 - 1.0]</b>.
+	 * @throws IllegalArgumentException if either array is null, either run falls outside of its array, or the opacity is outside of the valid range [0-1].
+	 * @since 1.1
+	 */
+	public void blend(final double[] base, final int baseOffset, final double[] layer, final int layerOffset, final int length, final double opacity) throws IllegalArgumentException {
+		if (base == null || layer == null) {
+			throw new IllegalArgumentException("The arrays of a blended run cannot be null.");
+		} else if (length < 0 || baseOffset < 0 || layerOffset < 0 || baseOffset > base.length - length || layerOffset > layer.length - length) {
+			throw new IllegalArgumentException("A blended run of " + length + " values must fit within both of its arrays.");
+		} else if (!(opacity >= 0 && opacity <= 1)) {
+			throw new IllegalArgumentException("A blend opacity must be a value between zero and one. " + opacity + " is outside that interval.");
+		}
+
+		BlendKernel.vectorized().blend(this, base, baseOffset, layer, layerOffset, length, opacity);
+	}
 }
 
 @FunctionalInterface
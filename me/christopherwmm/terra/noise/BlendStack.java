@@ -0,0 +1,235 @@
+package me.christopherwmm.terra.noise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An ordered stack of {@link BlendMode} layers that are composited onto a base {@link Noise} object in a single pass.
+ * Every row of the output is blended with every layer while it is still in cache, so chaining many blends costs one output buffer rather than one full map copy per blend.
+ * Each layer is blended with an opacity, where the result is interpolated between the value below the layer and the blended value.
+ * Rows are blended by the bulk {@link BlendMode} kernels, and can be split into bands that are composited across the common {@link ForkJoinPool}.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class BlendStack {
+	private final List<Layer> layers;
+	private boolean parallel;
+
+	public BlendStack() {
+		this.layers = new ArrayList<>();
+		this.parallel = false;
+	}
+
+	/**
+	 * Sets whether this {@link BlendStack} splits the map into row bands that are composited across the common {@link ForkJoinPool}.
+	 * Every value depends only on the values at the same coordinates, so the parallel output is bit-identical to the sequential output.
+	 * Custom {@link NoiseStorage} implementations must support reading and writing different rows concurrently to be composited in parallel.
+	 *
+	 * @param parallel Whether the layers should be composited in parallel.
+	 * @return The {@link BlendStack} object with the desired parallelism.
+	 * @since 1.1
+	 */
+	public BlendStack parallel(final boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/**
+	 * Adds a fully opaque layer on top of the existing layers of this {@link BlendStack}.
+	 *
+	 * @param mode The {@link BlendMode} used to blend the layer onto the values below it.
+	 * @param noise The {@link Noise} object of the layer.
+	 * @return The {@link BlendStack} object with the desired layer.
+	 * @throws IllegalArgumentException if the given {@link BlendMode} or {@link Noise} object is null.
+	 * @since 1.1
+	 */
+	public BlendStack layer(final BlendMode mode, final Noise noise) throws IllegalArgumentException {
+		return layer(mode, noise, 1);
+	}
+
+	/**
+	 * Adds a layer with the given opacity on top of the existing layers of this {@link BlendStack}.
+	 *
+	 * @param mode The {@link BlendMode} used to blend the layer onto the values below it.
+	 * @param noise The {@link Noise} object of the layer.
+	 * @param opacity The opacity of the layer within the interval <b>[0.0 - 1.0]</b>.
+	 * @return The {@link BlendStack} object with the desired layer.
+	 * @throws IllegalArgumentException if the given {@link BlendMode} or {@link Noise} object is null, the dimensions of the {@link Noise} object do not match those of the existing layers, or the opacity is outside of the valid range [0-1].
+	 * @since 1.1
+	 */
+	public BlendStack layer(final BlendMode mode, final Noise noise, final double opacity) throws IllegalArgumentException {
+		if (mode == null) {
+			throw new IllegalArgumentException("A blend layer mode cannot be null.");
+		} else if (noise == null) {
+			throw new IllegalArgumentException("A blend layer noise map cannot be null.");
+		} else if (!(opacity >= 0 && opacity <= 1)) {
+			throw new IllegalArgumentException("A blend layer opacity must be a value between zero and one. " + opacity + " is outside that interval.");
+		} else if (!this.layers.isEmpty()) {
+			checkDimensions(noise.getHeight(), noise.getWidth());
+		}
+
+		this.layers.add(new Layer(mode, noise, opacity));
+		return this;
+	}
+
+	/**
+	 * Composites every layer of this {@link BlendStack}, from bottom to top, onto the given base {@link Noise} object.
+	 * The result is written into a single newly allocated buffer, and the base {@link Noise} object is left unchanged.
+	 * The buffer is a heap array when the base is heap backed, whose values already fit within a single array, and off-heap memory otherwise.
+	 *
+	 * @param base The {@link Noise} object beneath every layer.
+	 * @return A new {@link Noise} object with the seed and {@link me.christopherwmm.terra.noise.mask.NoiseMask} of the base and the composited values.
+	 * @throws IllegalArgumentException if the given {@link Noise} object is null or its dimensions do not match those of the layers.
+	 * @since 1.1
+	 */
+	public Noise apply(final Noise base) throws IllegalArgumentException {
+		if (base == null) {
+			throw new IllegalArgumentException("A blend base noise map cannot be null.");
+		}
+
+		checkDimensions(base.getHeight(), base.getWidth());
+
+		NoiseStorage baseStorage = base.getNoiseStorage();
+		NoiseStorage output = (baseStorage instanceof HeapNoiseStorage)
+				? new HeapNoiseStorage(base.getHeight(), base.getWidth(), new double[base.getHeight() * base.getWidth()])
+				: OffHeapNoiseStorage.allocate(base.getHeight(), base.getWidth());
+
+		composite(baseStorage, output);
+
+		return new Noise(base.getSeed(), output, base.getNoiseMask());
+	}
+
+	/**
+	 * Composites every layer of this {@link BlendStack}, from bottom to top, onto the values of the given row-major array, overwriting them.
+	 * This is the in-place variant of {@link #apply(Noise)} for callers that own their buffer, and allocates nothing beyond a row buffer per band.
+	 *
+	 * @param values The row-major double array of base values, where the value at (x, y) is stored at index {@code y * width + x}.
+	 * @throws IllegalArgumentException if the given array is null or its length does not match the dimensions of the layers.
+	 * @since 1.1
+	 */
+	public void applyInPlace(final double[] values) throws IllegalArgumentException {
+		if (values == null) {
+			throw new IllegalArgumentException("A blend target array cannot be null.");
+		} else if (this.layers.isEmpty()) {
+			return;
+		}
+
+		Noise first = this.layers.get(0).noise;
+
+		if (values.length != (long) first.getHeight() * first.getWidth()) {
+			throw new IllegalArgumentException("The length of the given array does not match the dimensions of the blend layers.");
+		}
+
+		NoiseStorage target = new HeapNoiseStorage(first.getHeight(), first.getWidth(), values);
+		composite(target, target);
+	}
+
+	/**
+	 * Composites every layer of this {@link BlendStack}, from bottom to top, onto the values of the given {@link NoiseStorage}, overwriting them.
+	 * This is the in-place variant of {@link #apply(Noise)} for callers that own their buffer, such as an {@link OffHeapNoiseStorage} mapped from a file.
+	 *
+	 * @param storage The {@link NoiseStorage} containing the base values.
+	 * @throws IllegalArgumentException if the given {@link NoiseStorage} is null or its dimensions do not match those of the layers.
+	 * @since 1.1
+	 */
+	public void applyInPlace(final NoiseStorage storage) throws IllegalArgumentException {
+		if (storage == null) {
+			throw new IllegalArgumentException("A blend target storage cannot be null.");
+		}
+
+		checkDimensions(storage.getHeight(), storage.getWidth());
+		composite(storage, storage);
+	}
+
+	/**
+	 * Blends every layer into each row of the source, writing the finished rows to the target either sequentially or in parallel bands.
+	 */
+	private void composite(final NoiseStorage source, final NoiseStorage target) {
+		double[] targetValues = (target instanceof HeapNoiseStorage) ? ((HeapNoiseStorage) target).writableValues() : null;
+
+		if (this.parallel) {
+			RowBands.forEach(0, source.getHeight(), (startY, endY) -> compositeBand(source, target, targetValues, startY, endY));
+		} else {
+			compositeBand(source, target, targetValues, 0, source.getHeight());
+		}
+	}
+
+	/**
+	 * Blends every layer into each row of the given band of the source in turn, writing the finished row to the target.
+	 * Heap backed rows are blended directly within their arrays, where the target array is null unless the target is heap backed, and only rows of other storage are copied through row buffers.
+	 */
+	private void compositeBand(final NoiseStorage source, final NoiseStorage target, final double[] targetValues, final int startY, final int endY) {
+		int width = source.getWidth();
+		double[] row = (targetValues == null || !(source instanceof HeapNoiseStorage)) ? new double[width] : null;
+		double[] layerRow = new double[width];
+
+		for (int y = startY; y < endY; y++) {
+			double[] values;
+			int offset;
+
+			if (targetValues != null) {
+				values = targetValues;
+				offset = y * width;
+
+				if (source instanceof HeapNoiseStorage) {
+					if (source != target) {
+						System.arraycopy(((HeapNoiseStorage) source).values, offset, values, offset, width);
+					}
+				} else {
+					source.readRow(y, row);
+					System.arraycopy(row, 0, values, offset, width);
+				}
+			} else {
+				values = row;
+				offset = 0;
+				source.readRow(y, row);
+			}
+
+			for (Layer layer : this.layers) {
+				NoiseStorage layerStorage = layer.noise.getNoiseStorage();
+
+				if (layerStorage instanceof HeapNoiseStorage) {
+					layer.mode.blend(values, offset, ((HeapNoiseStorage) layerStorage).values, y * width, width, layer.opacity);
+				} else {
+					layerStorage.readRow(y, layerRow);
+					layer.mode.blend(values, offset, layerRow, 0, width, layer.opacity);
+				}
+			}
+
+			if (targetValues == null) {
+				target.writeRow(y, row);
+			}
+		}
+	}
+
+	private void checkDimensions(final int height, final int width) throws IllegalArgumentException {
+		if (this.layers.isEmpty()) {
+			return;
+		}
+
+		Noise first = this.layers.get(0).noise;
+
+		if (height != first.getHeight()) {
+			throw new IllegalArgumentException("The height of the given noise map does not match that of the blend layers.");
+		} else if (width != first.getWidth()) {
+			throw new IllegalArgumentException("The width of the given noise map does not match that of the blend layers.");
+		}
+	}
+
+	/**
+	 * A single immutable layer of a {@link BlendStack}.
+	 */
+	private static final class Layer {
+		private final BlendMode mode;
+		private final Noise noise;
+		private final double opacity;
+
+		private Layer(final BlendMode mode, final Noise noise, final double opacity) {
+			this.mode = mode;
+			this.noise = noise;
+			this.opacity = opacity;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package me.christopherwmm.terra.noise;
+
+/**
+ * A {@link NoiseStorage} keeping its values in a single row-major double array on the heap, where the value at (x, y) is stored at index {@code y * width + x}.
+ * Copies share the array of the original until either of them is first written, at which point the writer takes its own copy of the array.
+ * This only holds for writes made through {@link #writeRow(int, double[])} or {@link #writableValues()}: the {@link #values} field must never be written directly, and an array returned by {@link #writableValues()} must not be written after a copy is taken, since the copy shares it.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class HeapNoiseStorage implements NoiseStorage {
+	/** The non-zero integer height of this {@link HeapNoiseStorage} object. */
+	private final int height;
+
+	/** The non-zero integer width of this {@link HeapNoiseStorage} object. */
+	private final int width;
+
+	/** The row-major double array containing the individual values of this {@link HeapNoiseStorage} object, which may be shared with copies and must only be written through {@link #writableValues()}. */
+	double[] values;
+
+	/** Whether the array of values may be shared with a copy, and so must be copied before it is next written. */
+	private volatile boolean shared;
+
+	/**
+	 * Constructs a new {@link HeapNoiseStorage} object that takes ownership of the given row-major array of values.
+	 *
+	 * @param height The non-zero integer height of this {@link HeapNoiseStorage} object.
+	 * @param width The non-zero integer width of this {@link HeapNoiseStorage} object.
+	 * @param values The row-major double array containing exactly height * width values.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	HeapNoiseStorage(final int height, final int width, final double[] values) {
+		if (height < 1) {
+			throw new IllegalArgumentException("A noise storage height must be a positive, non-zero value. " + height + " is too small.");
+		} else if (width < 1) {
+			throw new IllegalArgumentException("A noise storage width must be a positive, non-zero value. " + width + " is too small.");
+		} else if (values == null || values.length != (long) height * width) {
+			throw new IllegalArgumentException("The dimensions of the provided noise array is invalid!");
+		}
+
+		this.height = height;
+		this.width = width;
+		this.values = values;
+		this.shared = false;
+	}
+
+	private HeapNoiseStorage(final HeapNoiseStorage storage) {
+		this.height = storage.height;
+		this.width = storage.width;
+		this.values = storage.values;
+		this.shared = true;
+	}
+
+	/**
+	 * Returns the array of values of this {@link HeapNoiseStorage} object for writing, first taking a private copy of it if it may be shared with a copy.
+	 * Callers writing from several threads must call this method once before handing the array to the other threads.
+	 *
+	 * @return The row-major double array of values owned solely by this {@link HeapNoiseStorage} object.
+	 * @since 1.1
+	 */
+	double[] writableValues() {
+		if (this.shared) {
+			synchronized (this) {
+				if (this.shared) {
+					this.values = this.values.clone();
+					this.shared = false;
+				}
+			}
+		}
+
+		return this.values;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	@Override
+	public double getValue(final int x, final int y) throws IllegalArgumentException {
+		if (x < 0 || x >= this.width || y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise value must be within the bounds of the noise map. (" + x + ", " + y + ") is outside of them.");
+		}
+
+		return this.values[y * this.width + x];
+	}
+
+	@Override
+	public void readRow(final int y, final double[] row) throws IllegalArgumentException {
+		checkRow(y, row);
+		System.arraycopy(this.values, y * this.width, row, 0, this.width);
+	}
+
+	@Override
+	public void writeRow(final int y, final double[] row) throws IllegalArgumentException {
+		checkRow(y, row);
+		System.arraycopy(row, 0, writableValues(), y * this.width, this.width);
+	}
+
+	/**
+	 * Returns a copy of this {@link HeapNoiseStorage} object in constant time.
+	 * The copy shares the array of values with this {@link HeapNoiseStorage} object until either of them is first written.
+	 */
+	@Override
+	public HeapNoiseStorage copy() {
+		this.shared = true;
+		return new HeapNoiseStorage(this);
+	}
+
+	private void checkRow(final int y, final double[] row) throws IllegalArgumentException {
+		if (y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise row must be within the height of the noise map. " + y + " is outside that interval.");
+		} else if (row == null || row.length < this.width) {
+			throw new IllegalArgumentException("A noise row must be at least as long as the width of the noise map.");
+		}
+	}
+}
@@ -3,6 +3,7 @@ package me.christopherwmm.terra.noise;
 import me.christopherwmm.terra.Generator;
 import me.christopherwmm.terra.gui.Image;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
+import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
 
 /**
  * The superclass for all immutable programmatic representations of noise.
@@ -21,8 +22,8 @@ public class Noise {
 	/** The long seed used to generate this {@link Noise} object. */
 	private final long seed;
 
-	/** The 2D double array containing the individual values of this {@link Noise} object. */
-	private final double noiseArray[][];
+	/** The {@link NoiseStorage} containing the individual values of this {@link Noise} object. */
+	private final NoiseStorage noiseStorage;
 
 	/** The {@link NoiseMask} being applied to this {@link Noise} object. */
 	private final NoiseMask noiseMask;
@@ -33,10 +34,11 @@ public class Noise {
 	 * @param height The non-zero integer height of this {@link Noise} object.
 	 * @param width The non-zero integer width of this {@link Noise} object.
 	 * @param seed The long seed used to generate this {@link Noise} object.
-	 * @param noiseArray The 2D double array containing the individual values of this {@link Noise} object.
+	 * @param noiseArray The 2D double array containing the individual values of this {@link Noise} object, which is copied into a single row-major array.
 	 * @param noiseMask The {@link NoiseMask} being applied to this {@link Noise} object.
 	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
 	 * @since 1.0
+	 * @see #Noise(int, int, long, double[], NoiseMask)
 	 */
 	protected Noise(final int height, final int width, final long seed, final double[][] noiseArray, final NoiseMask noiseMask) {
 		if (height < 1) {
@@ -54,95 +56,167 @@ public class Noise {
 		this.height = height;
 		this.width = width;
 		this.seed = seed;
-		this.noiseArray = noiseArray;
-		this.noiseMask = noiseMask.clone();
+		this.noiseStorage = new HeapNoiseStorage(height, width, this.flatten2DArray(noiseArray));
+		this.noiseMask = noiseMask;
 	}
 
 	/**
-	 * Constructs a new {@link Noise} object that is a deep copy based on the given {@link Noise} object.
+	 * Constructs a new {@link Noise} object that takes ownership of the given row-major array of values.
 	 * 
-	 * @param noise The {@link Noise} object being copied.
-	 * @since 1.0
+	 * @param height The non-zero integer height of this {@link Noise} object.
+	 * @param width The non-zero integer width of this {@link Noise} object.
+	 * @param seed The long seed used to generate this {@link Noise} object.
+	 * @param noiseValues The row-major double array containing the individual values of this {@link Noise} object, where the value at (x, y) is stored at index {@code y * width + x}.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link Noise} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
 	 */
-	protected Noise(final Noise noise) {
-		this.height = noise.getHeight();
-		this.width = noise.getWidth();
-		this.seed = noise.getSeed();
-		this.noiseArray = this.copy2DArray(noise.getNoise());
-		this.noiseMask = noise.getNoiseMask().clone();
+	protected Noise(final int height, final int width, final long seed, final double[] noiseValues, final NoiseMask noiseMask) {
+		if (height < 1) {
+			throw new IllegalArgumentException("A noise map height must be a positive, non-zero value. " + height + " is too small.");
+		} else if (width < 1) {
+			throw new IllegalArgumentException("A noise map width must be a positive, non-zero value. " + width + " is too small.");
+		} else if (noiseValues == null) {
+			throw new IllegalArgumentException("The given noise array cannot be null.");
+		} else if (noiseValues.length != (long) height * width) {
+			throw new IllegalArgumentException("The dimensions of the provided noise array is invalid!");
+		} else if (noiseMask == null) {
+			throw new IllegalArgumentException("The given noise mask cannot be null.");
+		}
+
+		this.height = height;
+		this.width = width;
+		this.seed = seed;
+		this.noiseStorage = new HeapNoiseStorage(height, width, noiseValues);
+		this.noiseMask = noiseMask;
 	}
 
-	public Noise blend(final BlendMode mode, final Noise noise) {
-		if (this.height != noise.getHeight()) {
-			throw new IllegalArgumentException("The height of the given noise map does not match that of this noise map.");
-		} else if (this.width != noise.getWidth()) {
-			throw new IllegalArgumentException("The width of the given noise map does not match that of this noise map.");
+	/**
+	 * Constructs a new {@link Noise} object holding the values of the given {@link NoiseStorage}, which may live outside of the heap.
+	 * Heap backed storage is copied in constant time, so later writes to the given storage are not seen by this {@link Noise} object or its clones, while off-heap storage is held through a read-only view rather than copied, since it may be larger than the heap, and must no longer be written.
+	 * 
+	 * @param seed The long seed used to generate this {@link Noise} object.
+	 * @param noiseStorage The {@link NoiseStorage} containing the individual values of this {@link Noise} object, which also defines its height and width.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link Noise} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	protected Noise(final long seed, final NoiseStorage noiseStorage, final NoiseMask noiseMask) {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("The given noise storage cannot be null.");
+		} else if (noiseMask == null) {
+			throw new IllegalArgumentException("The given noise mask cannot be null.");
+		} else if (noiseMask.getHeight() != noiseStorage.getHeight() || noiseMask.getWidth() != noiseStorage.getWidth()) {
+			throw new IllegalArgumentException("The dimensions of the given noise mask do not match those of the given noise storage.");
 		}
 
-		Noise newNoise = new Noise(this);
-
-		double[][] noiseArray1 = newNoise.getNoise();
-		double[][] noiseArray2 = noise.getNoise();
+		this.height = noiseStorage.getHeight();
+		this.width = noiseStorage.getWidth();
+		this.seed = seed;
+		this.noiseStorage = (noiseStorage instanceof HeapNoiseStorage) ? noiseStorage.copy() : new ReadOnlyNoiseStorage(noiseStorage);
+		this.noiseMask = noiseMask;
+	}
 
-		for (int x = 0; x < this.width; x++) {
-			for (int y = 0; y < this.height; y++) {
-				noiseArray1[y][x] = mode.blend(noiseArray1[y][x], noiseArray2[y][x]);
-			}
+	/**
+	 * Wraps the given {@link NoiseStorage}, such as a map reopened with {@link OffHeapNoiseStorage#open(java.nio.file.Path)}, in a new {@link Noise} object.
+	 * The resulting {@link Noise} object has no {@link NoiseMask} applied, since any mask was already applied when the values were generated.
+	 * Heap backed storage is copied in constant time, sharing its values until the given storage is next written, so the given storage remains free to be modified.
+	 * Off-heap storage is held through a read-only view rather than copied, so it should no longer be written once wrapped; wrapping {@link NoiseStorage#copy()} instead leaves the original free to be modified.
+	 * 
+	 * @param seed The long seed originally used to generate the values.
+	 * @param noiseStorage The {@link NoiseStorage} containing the individual values.
+	 * @return The new {@link Noise} object backed by the given {@link NoiseStorage}.
+	 * @throws IllegalArgumentException if the given {@link NoiseStorage} is null.
+	 * @since 1.1
+	 */
+	public static Noise of(final long seed, final NoiseStorage noiseStorage) throws IllegalArgumentException {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("The given noise storage cannot be null.");
 		}
 
-		return newNoise;
+		NoiseMask identityMask = new NoiseMaskGenerator()
+				.height(noiseStorage.getHeight())
+				.width(noiseStorage.getWidth())
+				.intensity(0)
+				.generate();
+
+		return new Noise(seed, noiseStorage, identityMask);
 	}
 
 	/**
-	 * Performs a deep copy on a each row of a 2D array using {@link System#arraycopy(Object, int, Object, int, int) System.arraycopy()}.
+	 * Constructs a new {@link Noise} object that is a copy of the given {@link Noise} object.
+	 * {@link Noise} objects never modify their values or {@link NoiseMask} once constructed, so the copy shares them with the given {@link Noise} object and takes constant time.
 	 * 
-	 * @param source The 2D array being copied into the given target.
-	 * @return The deep copy of the source values.
+	 * @param noise The {@link Noise} object being copied.
 	 * @since 1.0
 	 */
-	private double[][] copy2DArray(final double[][] source) {
-		final double[][] target = new double[source.length][source[0].length];
-
-		for (int x = 0; x < source.length; x++) {
-			System.arraycopy(source[x], 0, target[x], 0, source[x].length);
-		}
-
-		return target;
+	protected Noise(final Noise noise) {
+		this.height = noise.getHeight();
+		this.width = noise.getWidth();
+		this.seed = noise.getSeed();
+		this.noiseStorage = noise.noiseStorage;
+		this.noiseMask = noise.noiseMask;
 	}
 
 	/**
-	 * Converts the given {@link Noise} value into its corresponding grayscale ARGB color.
+	 * Blends the given {@link Noise} object onto this {@link Noise} object using the given {@link BlendMode}, leaving both unchanged.
+	 * Chains of several blends should use a {@link BlendStack}, which composites every layer in a single pass.
 	 * 
-	 * @param noiseValue The {@link Noise} value within the interval within the interval <b>[0.0 - 1.0]</b>.
-	 * @return The grayscale integer ARGB color corresponding to the given {@link Noise} value.
+	 * @param mode The {@link BlendMode} used to blend the given {@link Noise} object onto this {@link Noise} object.
+	 * @param noise The {@link Noise} object being blended onto this {@link Noise} object.
+	 * @return A new {@link Noise} object containing the blended values.
+	 * @throws IllegalArgumentException if the dimensions of the given {@link Noise} object do not match those of this {@link Noise} object.
 	 * @since 1.0
 	 */
-	private int getGrayscaleNoiseColor(final double noiseValue) {
-		int blue = (int)(noiseValue * 0xFF);
-		int green = blue * 0x100;
-		int red = blue * 0x10000;
-		int alpha = 0xFF000000;
+	public Noise blend(final BlendMode mode, final Noise noise) throws IllegalArgumentException {
+		return blend(mode, noise, false);
+	}
 
-		return alpha + red + green + blue;
+	/**
+	 * Blends the given {@link Noise} object onto this {@link Noise} object using the given {@link BlendMode}, leaving both unchanged.
+	 * Whole rows are blended at a time by the bulk {@link BlendMode} kernels, optionally split into bands across the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}, and the results are bit-identical to blending each value individually.
+	 * 
+	 * @param mode The {@link BlendMode} used to blend the given {@link Noise} object onto this {@link Noise} object.
+	 * @param noise The {@link Noise} object being blended onto this {@link Noise} object.
+	 * @param parallel Whether the rows should be blended in parallel.
+	 * @return A new {@link Noise} object containing the blended values.
+	 * @throws IllegalArgumentException if the dimensions of the given {@link Noise} object do not match those of this {@link Noise} object.
+	 * @since 1.1
+	 */
+	public Noise blend(final BlendMode mode, final Noise noise, final boolean parallel) throws IllegalArgumentException {
+		if (this.height != noise.getHeight()) {
+			throw new IllegalArgumentException("The height of the given noise map does not match that of this noise map.");
+		} else if (this.width != noise.getWidth()) {
+			throw new IllegalArgumentException("The width of the given noise map does not match that of this noise map.");
+		}
+
+		return new BlendStack().layer(mode, noise).parallel(parallel).apply(this);
 	}
 
 	/**
-	 * Generates the {@link BufferedImage} visual representation of this {@link Noise} object. 
+	 * Copies each row of a 2D array into a single row-major array using {@link System#arraycopy(Object, int, Object, int, int) System.arraycopy()}.
 	 * 
-	 * @param mask The 2D double array containing the individual noise values of this {@link Noise} object.
-	 * @return The grayscale {@link BufferedImage} visual representation of the given 2D double array.
-	 * @since 1.0
+	 * @param source The 2D array being flattened, whose rows must all match the width of this {@link Noise} object.
+	 * @return The row-major copy of the source values.
+	 * @throws IllegalArgumentException if a row of the source array does not match the width of this {@link Noise} object, or the map holds more values than fit within a single array.
+	 * @since 1.1
 	 */
-	private Image generateNoiseImage(final double[][] noise) {
-		Image noiseImage = new Image(this.getWidth(), this.getHeight(), Image.TYPE_INT_ARGB);
+	private double[] flatten2DArray(final double[][] source) throws IllegalArgumentException {
+		if ((long) this.height * this.width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("A " + this.width + "x" + this.height + " noise map holds more values than fit within a single array.");
+		}
 
-		for (int x = 0; x < this.width; x++) {
-			for (int y = 0; y < this.height; y++) {
-				noiseImage.setRGB(x, y, getGrayscaleNoiseColor(noise[y][x]));
+		final double[] target = new double[this.height * this.width];
+
+		for (int y = 0; y < this.height; y++) {
+			if (source[y] == null || source[y].length != this.width) {
+				throw new IllegalArgumentException("The dimensions of the provided noise array is invalid!");
 			}
+
+			System.arraycopy(source[y], 0, target, y * this.width, this.width);
 		}
 
-		return noiseImage;
+		return target;
 	}
 
 	/** 
@@ -178,22 +252,99 @@ public class Noise {
 	/**
 	 * Returns a 2D array containing the individual noise values of this {@link Noise} object. 
 	 * Values within the array are within the interval <b>[0.0 - 1.0]</b>.
+	 * Noise values are held by a {@link NoiseStorage}, so this compatibility view is a newly allocated copy; {@link #getNoiseRow(int, double[])} and {@link #getNoiseValues()} avoid the per-row allocations.
 	 * 
 	 * @return A 2D double array containing the individual noise values of this {@link Noise} object.
 	 * @since 1.0
 	 */
 	public double[][] getNoise() {
-		return this.noiseArray;
+		double[][] noise = new double[this.height][this.width];
+
+		for (int y = 0; y < this.height; y++) {
+			this.noiseStorage.readRow(y, noise[y]);
+		}
+
+		return noise;
+	}
+
+	/**
+	 * Returns a row-major array containing the individual noise values of this {@link Noise} object, where the value at (x, y) is stored at index {@code y * getWidth() + x}.
+	 * Values within the array are within the interval <b>[0.0 - 1.0]</b>.
+	 * 
+	 * @return A newly allocated row-major double array containing the individual noise values of this {@link Noise} object.
+	 * @throws IllegalStateException if this {@link Noise} object holds more values than fit within a single array.
+	 * @since 1.1
+	 */
+	public double[] getNoiseValues() throws IllegalStateException {
+		if ((long) this.height * this.width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalStateException("A " + this.width + "x" + this.height + " noise map holds too many values for a single array. Read it one row at a time instead.");
+		} else if (this.noiseStorage instanceof HeapNoiseStorage) {
+			return ((HeapNoiseStorage) this.noiseStorage).values.clone();
+		}
+
+		double[] noise = new double[this.height * this.width];
+		double[] row = new double[this.width];
+
+		for (int y = 0; y < this.height; y++) {
+			this.noiseStorage.readRow(y, row);
+			System.arraycopy(row, 0, noise, y * this.width, this.width);
+		}
+
+		return noise;
+	}
+
+	/**
+	 * Returns the individual noise value at the given coordinates.
+	 * 
+	 * @param x The integer x coordinate of the noise value.
+	 * @param y The integer y coordinate of the noise value.
+	 * @return The double noise value within the interval <b>[0.0 - 1.0]</b>.
+	 * @throws IllegalArgumentException if the given coordinates are outside of this {@link Noise} object.
+	 * @since 1.1
+	 */
+	public double getNoiseValue(final int x, final int y) throws IllegalArgumentException {
+		return this.noiseStorage.getValue(x, y);
+	}
+
+	/**
+	 * Fills the given row with the noise values of the given row.
+	 * 
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array, at least as long as the width, that receives the noise values.
+	 * @throws IllegalArgumentException if the given row is outside of this {@link Noise} object or too short.
+	 * @since 1.1
+	 */
+	public void getNoiseRow(final int y, final double[] row) throws IllegalArgumentException {
+		this.noiseStorage.readRow(y, row);
+	}
+
+	/**
+	 * Returns the {@link NoiseStorage} holding the values of this {@link Noise} object, which must not be modified.
+	 */
+	NoiseStorage getNoiseStorage() {
+		return this.noiseStorage;
+	}
+
+	/**
+	 * Returns a read-only view of the {@link NoiseStorage} holding the values of this {@link Noise} object, without copying them.
+	 * Writing to the view throws an {@link UnsupportedOperationException}, while {@link NoiseStorage#copy()} returns a writable copy, which for heap backed maps shares the values until it is first written.
+	 * 
+	 * @return A read-only {@link NoiseStorage} view of the values of this {@link Noise} object.
+	 * @since 1.1
+	 */
+	public NoiseStorage getNoiseStorageView() {
+		return new ReadOnlyNoiseStorage(this.noiseStorage);
 	}
 
 	/**
 	 * Returns The noise mask being applied to this {@link Noise} object.
+	 * {@link NoiseMask} objects are immutable, so the mask is shared rather than copied.
 	 * 
 	 * @return The {@link NoiseMask} being applied to this {@link Noise} object.
 	 * @since 1.0
 	 */
 	public NoiseMask getNoiseMask() {
-		return this.noiseMask.clone();
+		return this.noiseMask;
 	}
 
 	/**
@@ -203,9 +354,42 @@ public class Noise {
 	 * @since 1.0
 	 */
 	public Image getNoiseImage() {
-		return this.generateNoiseImage(this.noiseArray);
+		return getNoiseImage(Image.TYPE_INT_ARGB);
 	}
 
+	/**
+	 * Returns a grayscale visual representation of this {@link Noise} object in the given color space.
+	 * {@link Image#TYPE_BYTE_GRAY} and {@link Image#TYPE_USHORT_GRAY} images take one or two bytes per pixel rather than the four of {@link Image#TYPE_INT_ARGB}.
+	 * 
+	 * @param imageType The {@link Image#TYPE_INT_ARGB}, {@link Image#TYPE_BYTE_GRAY} or {@link Image#TYPE_USHORT_GRAY} integer color space of the {@link Image}.
+	 * @return A {@link Image} visual representation of this {@link Noise} object.
+	 * @throws IllegalArgumentException if the given image type is not supported.
+	 * @since 1.1
+	 */
+	public Image getNoiseImage(final int imageType) throws IllegalArgumentException {
+		return getNoiseImage(imageType, false);
+	}
+
+	/**
+	 * Returns a grayscale visual representation of this {@link Noise} object in the given color space, optionally converting bands of rows in parallel.
+	 * Custom {@link NoiseStorage} implementations must support reading different rows concurrently to be converted in parallel.
+	 * 
+	 * @param imageType The {@link Image#TYPE_INT_ARGB}, {@link Image#TYPE_BYTE_GRAY} or {@link Image#TYPE_USHORT_GRAY} integer color space of the {@link Image}.
+	 * @param parallel Whether the rows should be converted in parallel.
+	 * @return A {@link Image} visual representation of this {@link Noise} object.
+	 * @throws IllegalArgumentException if the given image type is not supported.
+	 * @since 1.1
+	 */
+	public Image getNoiseImage(final int imageType, final boolean parallel) throws IllegalArgumentException {
+		return Image.grayscale(this.width, this.height, imageType, this.noiseStorage::readRow, parallel);
+	}
+
+	/**
+	 * Returns a new {@link Noise} object that is a copy of this {@link Noise} object, sharing its immutable values in constant time.
+	 * 
+	 * @return A new {@link Noise} object that is a copy of this {@link Noise} object.
+	 * @since 1.0
+	 */
 	public Noise clone() {
 		return new Noise(this);
 	}
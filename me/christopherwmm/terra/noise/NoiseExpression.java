@@ -0,0 +1,722 @@
+package me.christopherwmm.terra.noise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import me.christopherwmm.terra.noise.mask.NoiseMask;
+
+/**
+ * An immutable node of a declarative expression graph over {@link Noise} objects, {@link NoiseGenerator} objects, {@link NoiseMask} objects, {@link BlendMode} blends and scalar operations.
+ * Building an expression does no work; {@link #evaluate()} fuses the whole graph and walks it one tile of rows at a time, so every intermediate result only ever occupies a cache-sized tile buffer and the final output is the only full map that is materialized.
+ * Structurally equal subexpressions, such as the same {@link NoiseExpression} node referenced by two branches, are evaluated once per tile and shared by every consumer.
+ * Generators are read through {@link #ofStream(NoiseGenerator)}, which evaluates them exactly as by {@link NoiseGenerator#stream(NoiseRowSink)}, so generators that normalize against the minimum and maximum values of the whole map in {@link NoiseGenerator#generate()} are normalized analytically instead.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public abstract class NoiseExpression {
+	/** The target number of values held by a single tile, sized so that every buffer of a tile stays resident in cache. */
+	private static final int TILE_VALUES = 1 << 14;
+
+	/** The non-zero integer height of the map described by this {@link NoiseExpression}. */
+	private final int height;
+
+	/** The non-zero integer width of the map described by this {@link NoiseExpression}. */
+	private final int width;
+
+	/** The structural hash code of this {@link NoiseExpression}, cached so that deep graphs are hashed in linear time. */
+	private final int hashCode;
+
+	private NoiseExpression(final int height, final int width, final int hashCode) {
+		this.height = height;
+		this.width = width;
+		this.hashCode = hashCode;
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that reads the values of the given {@link Noise} object.
+	 *
+	 * @param noise The {@link Noise} object being read.
+	 * @return The {@link NoiseExpression} reading the given {@link Noise} object.
+	 * @throws IllegalArgumentException if the given {@link Noise} object is null.
+	 * @since 1.1
+	 */
+	public static NoiseExpression of(final Noise noise) throws IllegalArgumentException {
+		if (noise == null) {
+			throw new IllegalArgumentException("A noise expression source map cannot be null.");
+		}
+
+		return new NoiseSource(noise);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that streams the values of the given {@link NoiseGenerator}, tile by tile, when evaluated.
+	 * The values are those of {@link NoiseGenerator#stream(NoiseRowSink)}, which are not always those of {@link NoiseGenerator#generate()}.
+	 * A {@link me.christopherwmm.terra.noise.perlin.PerlinNoiseGenerator PerlinNoiseGenerator} or {@link me.christopherwmm.terra.noise.simplex.SimplexNoiseGenerator SimplexNoiseGenerator} streams values normalized analytically against the total octave amplitude, which have less contrast than the values normalized against the minimum and maximum values of the whole map by {@link NoiseGenerator#generate()}.
+	 * Use {@link #of(Noise)} with the generated {@link Noise} object to combine the exact values of {@link NoiseGenerator#generate()}, at the cost of materializing the whole map.
+	 * The configuration of the generator is copied when the expression is built, so reconfiguring the generator afterwards does not change the expression.
+	 *
+	 * @param generator The {@link NoiseGenerator} being streamed.
+	 * @return The {@link NoiseExpression} streaming the given {@link NoiseGenerator}.
+	 * @throws IllegalArgumentException if the given {@link NoiseGenerator} is null.
+	 * @since 1.1
+	 */
+	public static NoiseExpression ofStream(final NoiseGenerator<?> generator) throws IllegalArgumentException {
+		if (generator == null) {
+			throw new IllegalArgumentException("A noise expression source generator cannot be null.");
+		}
+
+		return new GeneratorSource(generator);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that multiplies every value of this {@link NoiseExpression} by the given factor.
+	 *
+	 * @param factor The double factor every value is multiplied by.
+	 * @return The scaled {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public NoiseExpression scale(final double factor) {
+		return new PointOperation(this, Operation.Scale, factor, 0);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that adds the given offset to every value of this {@link NoiseExpression}.
+	 *
+	 * @param offset The double offset added to every value.
+	 * @return The biased {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public NoiseExpression bias(final double offset) {
+		return new PointOperation(this, Operation.Bias, offset, 0);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that limits every value of this {@link NoiseExpression} to the given interval.
+	 *
+	 * @param min The double lower bound of the interval.
+	 * @param max The double upper bound of the interval.
+	 * @return The clamped {@link NoiseExpression}.
+	 * @throws IllegalArgumentException if the lower bound is greater than the upper bound.
+	 * @since 1.1
+	 */
+	public NoiseExpression clamp(final double min, final double max) throws IllegalArgumentException {
+		if (!(min <= max)) {
+			throw new IllegalArgumentException("A noise expression clamp must have a lower bound no greater than its upper bound. [" + min + ", " + max + "] is not a valid interval.");
+		}
+
+		return new PointOperation(this, Operation.Clamp, min, max);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that replaces every value of this {@link NoiseExpression} with one if it is at least the given threshold, and zero otherwise.
+	 *
+	 * @param threshold The double threshold every value is compared against.
+	 * @return The thresholded {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public NoiseExpression threshold(final double threshold) {
+		return new PointOperation(this, Operation.Threshold, threshold, 0);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that applies the given {@link NoiseMask} to every value of this {@link NoiseExpression}, exactly as a generator applies its mask.
+	 * The mask is sampled row by row, so it is never materialized unless it already was.
+	 *
+	 * @param mask The {@link NoiseMask} being applied.
+	 * @return The masked {@link NoiseExpression}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null or its dimensions do not match those of this {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public NoiseExpression mask(final NoiseMask mask) throws IllegalArgumentException {
+		if (mask == null) {
+			throw new IllegalArgumentException("A noise expression mask cannot be null.");
+		} else if (mask.getHeight() != this.height || mask.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise mask do not match those of this noise expression.");
+		}
+
+		return new MaskOperation(this, mask);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that blends the given layer onto this {@link NoiseExpression} using the given {@link BlendMode}.
+	 *
+	 * @param mode The {@link BlendMode} used to blend the layer onto this {@link NoiseExpression}.
+	 * @param layer The {@link NoiseExpression} being blended onto this {@link NoiseExpression}.
+	 * @return The blended {@link NoiseExpression}.
+	 * @throws IllegalArgumentException if the given {@link BlendMode} or layer is null, or the dimensions of the layer do not match those of this {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public NoiseExpression blend(final BlendMode mode, final NoiseExpression layer) throws IllegalArgumentException {
+		return blend(mode, layer, 1);
+	}
+
+	/**
+	 * Returns a {@link NoiseExpression} that blends the given layer onto this {@link NoiseExpression} using the given {@link BlendMode} and opacity.
+	 * The result is interpolated between the value of this {@link NoiseExpression} and the blended value, exactly as by a {@link BlendStack} layer.
+	 *
+	 * @param mode The {@link BlendMode} used to blend the layer onto this {@link NoiseExpression}.
+	 * @param layer The {@link NoiseExpression} being blended onto this {@link NoiseExpression}.
+	 * @param opacity The opacity of the layer within the interval <b>[0.0 - 1.0]</b>.
+	 * @return The blended {@link NoiseExpression}.
+	 * @throws IllegalArgumentException if the given {@link BlendMode} or layer is null, the dimensions of the layer do not match those of this {@link NoiseExpression}, or the opacity is outside of the valid range [0-1].
+	 * @since 1.1
+	 */
+	public NoiseExpression blend(final BlendMode mode, final NoiseExpression layer, final double opacity) throws IllegalArgumentException {
+		if (mode == null) {
+			throw new IllegalArgumentException("A noise expression blend mode cannot be null.");
+		} else if (layer == null) {
+			throw new IllegalArgumentException("A noise expression blend layer cannot be null.");
+		} else if (!(opacity >= 0 && opacity <= 1)) {
+			throw new IllegalArgumentException("A noise expression blend opacity must be a value between zero and one. " + opacity + " is outside that interval.");
+		} else if (layer.height != this.height) {
+			throw new IllegalArgumentException("The height of the given noise expression does not match that of this noise expression.");
+		} else if (layer.width != this.width) {
+			throw new IllegalArgumentException("The width of the given noise expression does not match that of this noise expression.");
+		}
+
+		return new BlendOperation(this, layer, mode, opacity);
+	}
+
+	/**
+	 * Returns the non-zero integer height of the map described by this {@link NoiseExpression}.
+	 *
+	 * @return The non-zero integer height of the map described by this {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Returns the non-zero integer width of the map described by this {@link NoiseExpression}.
+	 *
+	 * @return The non-zero integer width of the map described by this {@link NoiseExpression}.
+	 * @since 1.1
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Evaluates this {@link NoiseExpression} sequentially into a new heap backed {@link Noise} object.
+	 *
+	 * @return A new {@link Noise} object containing the evaluated values.
+	 * @throws IllegalArgumentException if this {@link NoiseExpression} holds more values than fit within a single array.
+	 * @see #evaluate(NoiseStorage, boolean)
+	 * @since 1.1
+	 */
+	public Noise evaluate() throws IllegalArgumentException {
+		return evaluate(false);
+	}
+
+	/**
+	 * Evaluates this {@link NoiseExpression} into a new heap backed {@link Noise} object.
+	 *
+	 * @param parallel Whether the tiles should be evaluated across the common {@link ForkJoinPool}.
+	 * @return A new {@link Noise} object containing the evaluated values.
+	 * @throws IllegalArgumentException if this {@link NoiseExpression} holds more values than fit within a single array.
+	 * @see #evaluate(NoiseStorage, boolean)
+	 * @since 1.1
+	 */
+	public Noise evaluate(final boolean parallel) throws IllegalArgumentException {
+		if ((long) this.height * this.width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("A " + this.width + "x" + this.height + " noise expression holds more values than fit within a single array. Evaluate it into an OffHeapNoiseStorage instead.");
+		}
+
+		return evaluate(new HeapNoiseStorage(this.height, this.width, new double[this.height * this.width]), parallel);
+	}
+
+	/**
+	 * Evaluates this {@link NoiseExpression} into the given {@link NoiseStorage}, such as an {@link OffHeapNoiseStorage} mapped from a file, overwriting its values.
+	 * The graph is evaluated one tile of whole rows at a time. Each tile evaluates every distinct subexpression once, in dependency order, blending and transforming values in place within its tile buffers wherever a value has no other consumer.
+	 * Sources whose rows cannot be streamed independently, such as a {@link me.christopherwmm.terra.noise.voronoi.JumpFloodVoronoiGenerator JumpFloodVoronoiGenerator}, are streamed once into a temporary heap map before the tiles are evaluated, so they must fit within a single array even when the given {@link NoiseStorage} is off-heap.
+	 * Every value depends only on the values at the same coordinates, so the parallel output is bit-identical to the sequential output.
+	 * The resulting {@link Noise} object carries the seed of the base-most {@link Noise} source of this {@link NoiseExpression}, or zero if that source is a {@link NoiseGenerator}, and has no {@link NoiseMask} applied.
+	 * It holds the given {@link NoiseStorage} as by {@link Noise#of(long, NoiseStorage)}, so later writes to heap backed storage leave it unchanged, while off-heap storage should no longer be written.
+	 *
+	 * @param storage The {@link NoiseStorage} receiving the evaluated values, with the same dimensions as this {@link NoiseExpression}.
+	 * @param parallel Whether the tiles should be evaluated across the common {@link ForkJoinPool}.
+	 * @return The {@link Noise} object holding the evaluated values.
+	 * @throws IllegalArgumentException if the given {@link NoiseStorage} is null or its dimensions do not match those of this {@link NoiseExpression}, or a source whose rows cannot be streamed independently holds more values than fit within a single array.
+	 * @since 1.1
+	 */
+	public Noise evaluate(final NoiseStorage storage, final boolean parallel) throws IllegalArgumentException {
+		if (storage == null) {
+			throw new IllegalArgumentException("A noise expression output storage cannot be null.");
+		} else if (storage.getHeight() != this.height || storage.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise storage do not match those of this noise expression.");
+		}
+
+		Plan plan = new Plan(this);
+		double[] storageValues = (storage instanceof HeapNoiseStorage) ? ((HeapNoiseStorage) storage).writableValues() : null;
+
+		if (parallel) {
+			RowBands.forEach(0, this.height, plan.tileHeight, (startY, endY) -> evaluateTile(plan, storage, storageValues, startY, endY, new ArrayDeque<>()));
+		} else {
+			Deque<double[]> pool = new ArrayDeque<>();
+
+			for (int startY = 0; startY < this.height; startY += plan.tileHeight) {
+				evaluateTile(plan, storage, storageValues, startY, Math.min(startY + plan.tileHeight, this.height), pool);
+			}
+		}
+
+		return Noise.of(getBaseSeed(), storage);
+	}
+
+	/**
+	 * Evaluates every step of the given {@link Plan} over a single tile of rows, writing the result of the final step into the given {@link NoiseStorage}, or straight into its array of values when it is heap backed.
+	 * Tile buffers are returned to the given pool as soon as their last consumer has run, so a tile holds only as many buffers as there are values alive at once.
+	 */
+	private static void evaluateTile(final Plan plan, final NoiseStorage storage, final double[] storageValues, final int startY, final int endY, final Deque<double[]> pool) {
+		int width = storage.getWidth();
+		int length = (endY - startY) * width;
+		int stepCount = plan.steps.length;
+		double[][] buffers = new double[stepCount][];
+		int[] remainingUses = plan.uses.clone();
+
+		for (int step = 0; step < stepCount; step++) {
+			NoiseExpression expression = plan.steps[step];
+			int[] inputs = plan.inputs[step];
+			double[][] inputValues = new double[inputs.length][];
+			double[] output;
+
+			if (expression.isInPlace()) {
+				if (remainingUses[inputs[0]] == 1) {
+					output = buffers[inputs[0]];
+					buffers[inputs[0]] = null;
+				} else {
+					output = takeBuffer(pool, plan.tileValues);
+					System.arraycopy(buffers[inputs[0]], 0, output, 0, length);
+				}
+
+				inputValues[0] = output;
+			} else {
+				output = takeBuffer(pool, plan.tileValues);
+			}
+
+			for (int input = (expression.isInPlace() ? 1 : 0); input < inputs.length; input++) {
+				inputValues[input] = buffers[inputs[input]];
+			}
+
+			expression.evaluateTile(inputValues, output, startY, endY);
+
+			for (int input : inputs) {
+				if (--remainingUses[input] == 0 && buffers[input] != null) {
+					pool.push(buffers[input]);
+					buffers[input] = null;
+				}
+			}
+
+			buffers[step] = output;
+		}
+
+		double[] result = buffers[stepCount - 1];
+
+		if (storageValues != null) {
+			System.arraycopy(result, 0, storageValues, startY * width, length);
+		} else {
+			double[] row = new double[width];
+
+			for (int y = startY; y < endY; y++) {
+				System.arraycopy(result, (y - startY) * width, row, 0, width);
+				storage.writeRow(y, row);
+			}
+		}
+
+		pool.push(result);
+	}
+
+	private static double[] takeBuffer(final Deque<double[]> pool, final int tileValues) {
+		double[] buffer = pool.poll();
+		return (buffer != null) ? buffer : new double[tileValues];
+	}
+
+	/**
+	 * Returns the seed of the {@link Noise} source found by following the base input of each operation, or zero if that source is a {@link NoiseGenerator}.
+	 */
+	private long getBaseSeed() {
+		NoiseExpression expression = this;
+
+		while (expression.getInputs().length > 0) {
+			expression = expression.getInputs()[0];
+		}
+
+		return (expression instanceof NoiseSource) ? ((NoiseSource) expression).noise.getSeed() : 0;
+	}
+
+	/**
+	 * Returns the input expressions of this {@link NoiseExpression}, where the first input of an operation is the expression it transforms.
+	 */
+	abstract NoiseExpression[] getInputs();
+
+	/**
+	 * Returns whether this {@link NoiseExpression} transforms the values of its first input in place rather than filling an empty buffer.
+	 */
+	abstract boolean isInPlace();
+
+	/**
+	 * Evaluates this {@link NoiseExpression} over the given tile of rows, where every buffer holds the rows of the tile contiguously in row-major order.
+	 * When this {@link NoiseExpression} is evaluated in place, the first input buffer is the output buffer and already holds the values of the first input.
+	 */
+	abstract void evaluateTile(final double[][] inputs, final double[] output, final int startY, final int endY);
+
+	@Override
+	public final int hashCode() {
+		return this.hashCode;
+	}
+
+	/**
+	 * The distinct subexpressions of a {@link NoiseExpression} in dependency order, with the number of consumers of each.
+	 */
+	private static final class Plan {
+		private final NoiseExpression[] steps;
+		private final int[][] inputs;
+		private final int[] uses;
+		private final int tileHeight;
+		private final int tileValues;
+
+		private Plan(final NoiseExpression root) {
+			List<NoiseExpression> steps = new ArrayList<>();
+			List<int[]> inputs = new ArrayList<>();
+			Map<NoiseExpression, Integer> indices = new HashMap<>();
+
+			addStep(root, steps, inputs, indices);
+
+			this.steps = steps.toArray(new NoiseExpression[0]);
+			this.inputs = inputs.toArray(new int[0][]);
+			this.uses = new int[this.steps.length];
+			this.uses[this.uses.length - 1] = 1;
+
+			for (int[] stepInputs : this.inputs) {
+				for (int input : stepInputs) {
+					this.uses[input]++;
+				}
+			}
+
+			this.tileHeight = Math.max(1, Math.min(root.height, TILE_VALUES / root.width));
+			this.tileValues = this.tileHeight * root.width;
+		}
+
+		/**
+		 * Adds the given expression after all of its inputs, reusing the step of any structurally equal expression that was already added.
+		 */
+		private static int addStep(final NoiseExpression expression, final List<NoiseExpression> steps, final List<int[]> inputs, final Map<NoiseExpression, Integer> indices) {
+			Integer existing = indices.get(expression);
+
+			if (existing != null) {
+				return existing;
+			}
+
+			NoiseExpression[] expressionInputs = expression.getInputs();
+			int[] stepInputs = new int[expressionInputs.length];
+
+			for (int input = 0; input < expressionInputs.length; input++) {
+				stepInputs[input] = addStep(expressionInputs[input], steps, inputs, indices);
+			}
+
+			NoiseExpression step = expression;
+
+			if (expression instanceof GeneratorSource) {
+				step = ((GeneratorSource) expression).prepare();
+			}
+
+			steps.add(step);
+			inputs.add(stepInputs);
+			indices.put(expression, steps.size() - 1);
+
+			return steps.size() - 1;
+		}
+	}
+
+	/**
+	 * The accepted scalar operations of a {@link PointOperation}.
+	 */
+	private enum Operation {
+		Scale, Bias, Clamp, Threshold;
+	}
+
+	/**
+	 * A {@link NoiseExpression} reading the values of an existing {@link Noise} object.
+	 */
+	private static final class NoiseSource extends NoiseExpression {
+		private final Noise noise;
+
+		private NoiseSource(final Noise noise) {
+			super(noise.getHeight(), noise.getWidth(), System.identityHashCode(noise));
+			this.noise = noise;
+		}
+
+		@Override
+		NoiseExpression[] getInputs() {
+			return new NoiseExpression[0];
+		}
+
+		@Override
+		boolean isInPlace() {
+			return false;
+		}
+
+		@Override
+		void evaluateTile(final double[][] inputs, final double[] output, final int startY, final int endY) {
+			NoiseStorage storage = this.noise.getNoiseStorage();
+			int width = storage.getWidth();
+
+			if (storage instanceof HeapNoiseStorage) {
+				System.arraycopy(((HeapNoiseStorage) storage).values, startY * width, output, 0, (endY - startY) * width);
+			} else {
+				double[] row = new double[width];
+
+				for (int y = startY; y < endY; y++) {
+					storage.readRow(y, row);
+					System.arraycopy(row, 0, output, (y - startY) * width, width);
+				}
+			}
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			return (object instanceof NoiseSource) && ((NoiseSource) object).noise == this.noise;
+		}
+	}
+
+	/**
+	 * A {@link NoiseExpression} streaming the rows of each tile from a copy of a {@link NoiseGenerator} taken when the expression was built.
+	 */
+	private static final class GeneratorSource extends NoiseExpression {
+		private final NoiseGenerator<?> generator;
+		private final NoiseMask mask;
+
+		private GeneratorSource(final NoiseGenerator<?> generator) {
+			this(generator.copy(), null);
+		}
+
+		private GeneratorSource(final NoiseGenerator<?> generator, final NoiseMask mask) {
+			super(generator.getHeight(), generator.getWidth(), System.identityHashCode(generator));
+			this.generator = generator;
+			this.mask = mask;
+		}
+
+		/**
+		 * Returns the step evaluating this source for a single evaluation, with the mask of the generator resolved once and shared by every tile.
+		 */
+		private NoiseExpression prepare() throws IllegalArgumentException {
+			if (!this.generator.hasIndependentRows()) {
+				return materialize();
+			}
+
+			return new GeneratorSource(this.generator, this.generator.createNoiseMask());
+		}
+
+		/**
+		 * Streams every row of the generator into a temporary heap map, for generators whose bands cannot be streamed independently.
+		 * Such generators, like the {@link me.christopherwmm.terra.noise.voronoi.JumpFloodVoronoiGenerator JumpFloodVoronoiGenerator}, already hold state for every pixel on the heap while streaming, so the temporary map is held there too.
+		 */
+		private NoiseSource materialize() throws IllegalArgumentException {
+			if ((long) getHeight() * getWidth() > NoiseStorage.MAX_ARRAY_LENGTH) {
+				throw new IllegalArgumentException("A " + getWidth() + "x" + getHeight() + " noise expression generator whose rows cannot be streamed independently holds more values than fit within a single array.");
+			}
+
+			NoiseStorage storage = new HeapNoiseStorage(getHeight(), getWidth(), new double[getHeight() * getWidth()]);
+			this.generator.stream(storage::writeRow);
+
+			return new NoiseSource(Noise.of(0, storage));
+		}
+
+		@Override
+		NoiseExpression[] getInputs() {
+			return new NoiseExpression[0];
+		}
+
+		@Override
+		boolean isInPlace() {
+			return false;
+		}
+
+		@Override
+		void evaluateTile(final double[][] inputs, final double[] output, final int startY, final int endY) {
+			int width = getWidth();
+			this.generator.stream(startY, endY, this.mask, (y, row) -> System.arraycopy(row, 0, output, (y - startY) * width, width));
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			return (object instanceof GeneratorSource) && ((GeneratorSource) object).generator == this.generator;
+		}
+	}
+
+	/**
+	 * A {@link NoiseExpression} applying a scalar {@link Operation} to every value of its input.
+	 */
+	private static final class PointOperation extends NoiseExpression {
+		private final NoiseExpression input;
+		private final Operation operation;
+		private final double first;
+		private final double second;
+
+		private PointOperation(final NoiseExpression input, final Operation operation, final double first, final double second) {
+			super(input.getHeight(), input.getWidth(), ((input.hashCode() * 31 + operation.ordinal()) * 31 + Double.hashCode(first)) * 31 + Double.hashCode(second));
+			this.input = input;
+			this.operation = operation;
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		NoiseExpression[] getInputs() {
+			return new NoiseExpression[] {this.input};
+		}
+
+		@Override
+		boolean isInPlace() {
+			return true;
+		}
+
+		@Override
+		void evaluateTile(final double[][] inputs, final double[] output, final int startY, final int endY) {
+			int length = (endY - startY) * getWidth();
+
+			switch (this.operation) {
+				case Scale:
+					for (int i = 0; i < length; i++) {
+						output[i] *= this.first;
+					}
+					break;
+				case Bias:
+					for (int i = 0; i < length; i++) {
+						output[i] += this.first;
+					}
+					break;
+				case Clamp:
+					for (int i = 0; i < length; i++) {
+						output[i] = Math.min(Math.max(output[i], this.first), this.second);
+					}
+					break;
+				case Threshold:
+					for (int i = 0; i < length; i++) {
+						output[i] = (output[i] >= this.first) ? 1 : 0;
+					}
+					break;
+				default:
+					throw new IllegalStateException("The noise expression operation " + this.operation + " is not supported.");
+			}
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if (!(object instanceof PointOperation)) {
+				return false;
+			}
+
+			PointOperation other = (PointOperation) object;
+
+			return other.hashCode() == hashCode()
+					&& other.operation == this.operation
+					&& Double.compare(other.first, this.first) == 0
+					&& Double.compare(other.second, this.second) == 0
+					&& other.input.equals(this.input);
+		}
+	}
+
+	/**
+	 * A {@link NoiseExpression} applying a {@link NoiseMask} to every row of its input.
+	 */
+	private static final class MaskOperation extends NoiseExpression {
+		private final NoiseExpression input;
+		private final NoiseMask mask;
+
+		private MaskOperation(final NoiseExpression input, final NoiseMask mask) {
+			super(input.getHeight(), input.getWidth(), input.hashCode() * 31 + System.identityHashCode(mask));
+			this.input = input;
+			this.mask = mask;
+		}
+
+		@Override
+		NoiseExpression[] getInputs() {
+			return new NoiseExpression[] {this.input};
+		}
+
+		@Override
+		boolean isInPlace() {
+			return true;
+		}
+
+		@Override
+		void evaluateTile(final double[][] inputs, final double[] output, final int startY, final int endY) {
+			int width = getWidth();
+			double[] row = new double[width];
+
+			for (int y = startY; y < endY; y++) {
+				int offset = (y - startY) * width;
+
+				System.arraycopy(output, offset, row, 0, width);
+				this.mask.applyToRow(y, row, 0, width);
+				System.arraycopy(row, 0, output, offset, width);
+			}
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if (!(object instanceof MaskOperation)) {
+				return false;
+			}
+
+			MaskOperation other = (MaskOperation) object;
+
+			return other.hashCode() == hashCode() && other.mask == this.mask && other.input.equals(this.input);
+		}
+	}
+
+	/**
+	 * A {@link NoiseExpression} blending a layer onto its base input with a {@link BlendMode} and opacity.
+	 */
+	private static final class BlendOperation extends NoiseExpression {
+		private final NoiseExpression base;
+		private final NoiseExpression layer;
+		private final BlendMode mode;
+		private final double opacity;
+
+		private BlendOperation(final NoiseExpression base, final NoiseExpression layer, final BlendMode mode, final double opacity) {
+			super(base.getHeight(), base.getWidth(), ((base.hashCode() * 31 + layer.hashCode()) * 31 + mode.ordinal()) * 31 + Double.hashCode(opacity));
+			this.base = base;
+			this.layer = layer;
+			this.mode = mode;
+			this.opacity = opacity;
+		}
+
+		@Override
+		NoiseExpression[] getInputs() {
+			return new NoiseExpression[] {this.base, this.layer};
+		}
+
+		@Override
+		boolean isInPlace() {
+			return true;
+		}
+
+		@Override
+		void evaluateTile(final double[][] inputs, final double[] output, final int startY, final int endY) {
+			this.mode.blend(output, 0, inputs[1], 0, (endY - startY) * getWidth(), this.opacity);
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if (!(object instanceof BlendOperation)) {
+				return false;
+			}
+
+			BlendOperation other = (BlendOperation) object;
+
+			return other.hashCode() == hashCode()
+					&& other.mode == this.mode
+					&& Double.compare(other.opacity, this.opacity) == 0
+					&& other.base.equals(this.base)
+					&& other.layer.equals(this.layer);
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package me.christopherwmm.terra.noise;
 
 import me.christopherwmm.terra.Generator;
+import me.christopherwmm.terra.noise.mask.NoiseMask;
+import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
 
 /**
  * The abstract superclass for {@link Noise} generators.
@@ -9,7 +11,107 @@ import me.christopherwmm.terra.Generator;
  * @since 1.0
  * @author ChristopherWMM
  */
-public abstract class NoiseGenerator<T extends Noise> extends Generator<T> {
+public abstract class NoiseGenerator<T extends Noise> extends Generator<T> implements Cloneable {
+	/** The intensity of the edge fading {@link NoiseMask} applied to the T objects created by this {@link NoiseGenerator} when no custom {@link NoiseMask} has been given. */
+	private double noiseMaskIntensity;
+
+	/** The {@link NoiseMask} given to this {@link NoiseGenerator} in place of the edge fading mask, or null if the mask should be generated from the intensity. */
+	private NoiseMask customNoiseMask;
+
+	/**
+	 * Returns the non-zero integer height of the T objects created by this {@link NoiseGenerator}.
+	 * Subclasses written before this method was added do not report their dimensions, and so cannot be streamed in bands or used within a {@link NoiseExpression}.
+	 * 
+	 * @return The non-zero integer height of the generated maps.
+	 * @throws UnsupportedOperationException if this {@link NoiseGenerator} does not report its dimensions.
+	 * @since 1.1
+	 */
+	public int getHeight() throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("The " + getClass().getSimpleName() + " noise generator does not report its height.");
+	}
+
+	/**
+	 * Returns the non-zero integer width of the T objects created by this {@link NoiseGenerator}.
+	 * Subclasses written before this method was added do not report their dimensions, and so cannot be streamed in bands or used within a {@link NoiseExpression}.
+	 * 
+	 * @return The non-zero integer width of the generated maps.
+	 * @throws UnsupportedOperationException if this {@link NoiseGenerator} does not report its dimensions.
+	 * @since 1.1
+	 */
+	public int getWidth() throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("The " + getClass().getSimpleName() + " noise generator does not report its width.");
+	}
+
+	/**
+	 * Returns a copy of this {@link NoiseGenerator} with the same parameters, so that reconfiguring either one does not affect the other.
+	 * The default copy shares every field with this {@link NoiseGenerator}, which is enough as long as parameters are replaced rather than modified in place; subclasses holding mutable parameters or per-generation state must override it.
+	 * 
+	 * @return A new {@link NoiseGenerator} with the same parameters as this {@link NoiseGenerator}.
+	 * @since 1.1
+	 */
+	@SuppressWarnings("unchecked")
+	protected NoiseGenerator<T> copy() {
+		try {
+			return (NoiseGenerator<T>) super.clone();
+		} catch (CloneNotSupportedException exception) {
+			throw new IllegalStateException("A noise generator could not be copied.", exception);
+		}
+	}
+
+	/**
+	 * Sets the intensity of the edge fading {@link NoiseMask} applied to the T objects created by this {@link NoiseGenerator}, replacing any custom {@link NoiseMask}.
+	 * 
+	 * @param noiseMaskIntensity The {@link NoiseMask} intensity within the interval <b>[0.0 - 1.0]</b>.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} intensity is outside of the valid range [0-1].
+	 * @since 1.1
+	 */
+	protected void setNoiseMaskIntensity(final double noiseMaskIntensity) throws IllegalArgumentException {
+		if (!(noiseMaskIntensity >= 0 && noiseMaskIntensity <= 1)) {
+			throw new IllegalArgumentException("A noise mask intensity must be a positive value between zero and one. " + noiseMaskIntensity + " is outside that interval.");
+		}
+
+		this.noiseMaskIntensity = noiseMaskIntensity;
+		this.customNoiseMask = null;
+	}
+
+	/**
+	 * Sets a custom {@link NoiseMask}, applied to the T objects created by this {@link NoiseGenerator} in place of the edge fading mask.
+	 * Its dimensions are checked against those of the generated maps by {@link #createNoiseMask()}, since they may still change after the mask is set.
+	 * 
+	 * @param noiseMask The custom {@link NoiseMask}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null.
+	 * @since 1.1
+	 */
+	protected void setNoiseMask(final NoiseMask noiseMask) throws IllegalArgumentException {
+		if (noiseMask == null) {
+			throw new IllegalArgumentException("A custom noise mask cannot be null.");
+		}
+
+		this.customNoiseMask = noiseMask;
+	}
+
+	/**
+	 * Returns the custom {@link NoiseMask} if one was given, otherwise a new edge fading {@link NoiseMask} with the configured intensity.
+	 * The edge fading mask is evaluated lazily, so creating it does not materialize any mask values.
+	 * 
+	 * @return The {@link NoiseMask} to apply to the next generated T object.
+	 * @throws IllegalArgumentException if the dimensions of the custom {@link NoiseMask} do not match those of the generated maps.
+	 * @since 1.1
+	 */
+	protected NoiseMask createNoiseMask() throws IllegalArgumentException {
+		if (this.customNoiseMask == null) {
+			return new NoiseMaskGenerator()
+					.height(getHeight())
+					.width(getWidth())
+					.intensity(this.noiseMaskIntensity)
+					.generate();
+		} else if (this.customNoiseMask.getHeight() != getHeight() || this.customNoiseMask.getWidth() != getWidth()) {
+			throw new IllegalArgumentException("The dimensions of the given noise mask do not match those of this noise map.");
+		}
+
+		return this.customNoiseMask;
+	}
+
 	/**
 	 * Generates the T value for the specified x and y coordinates based on the specific parameters entered into this {@link NoiseGenerator} object.
 	 * 
@@ -22,9 +124,154 @@ public abstract class NoiseGenerator<T extends Noise> extends Generator<T> {
 
 	/**
 	 * Generates the 2D array of T values corresponding to the parameters entered into this {@link NoiseGenerator} object.
+	 * Subclasses must override either this method or {@link #generateNoiseValues()}; the default reshapes the values of {@link #generateNoiseValues()}.
 	 * 
 	 * @return The 2D array of T values corresponding to the entered parameters.
 	 * @since 1.0
+	 * @deprecated Noise values are held row-major by a {@link NoiseStorage}, so {@link #generateNoiseValues()} avoids the copy into a 2D array.
+	 */
+	@Deprecated
+	protected double[][] generateNoiseArray() {
+		double[] values = generateNoiseValues();
+		int height = getHeight();
+		int width = getWidth();
+		double[][] noise = new double[height][width];
+
+		for (int y = 0; y < height; y++) {
+			System.arraycopy(values, y * width, noise[y], 0, width);
+		}
+
+		return noise;
+	}
+
+	/**
+	 * Generates the row-major array of T values corresponding to the parameters entered into this {@link NoiseGenerator} object, where the value at (x, y) is stored at index {@code y * width + x}.
+	 * Subclasses must override either this method or {@link #generateNoiseArray()}; the default flattens the rows of {@link #generateNoiseArray()}, so subclasses written against the 2D array keep working.
+	 * 
+	 * @return The row-major array of T values corresponding to the entered parameters.
+	 * @throws IllegalArgumentException if the map holds more values than fit within a single array.
+	 * @since 1.1
+	 */
+	@SuppressWarnings("deprecation")
+	protected double[] generateNoiseValues() throws IllegalArgumentException {
+		double[][] noise = generateNoiseArray();
+		int height = noise.length;
+		int width = (height == 0) ? 0 : noise[0].length;
+		double[] values = allocateNoiseArray(height, width);
+
+		for (int y = 0; y < height; y++) {
+			System.arraycopy(noise[y], 0, values, y * width, width);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Allocates the single row-major array holding every value of a map with the given dimensions.
+	 * 
+	 * @param height The non-zero integer height of the map.
+	 * @param width The non-zero integer width of the map.
+	 * @return A new zeroed double array of {@code height * width} values.
+	 * @throws IllegalArgumentException if the map holds more values than fit within a single array.
+	 * @since 1.1
+	 */
+	protected static double[] allocateNoiseArray(final int height, final int width) throws IllegalArgumentException {
+		if ((long) height * width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("A " + width + "x" + height + " noise map holds more values than fit within a single array. Generate it into an OffHeapNoiseStorage instead.");
+		}
+
+		return new double[height * width];
+	}
+
+	/**
+	 * Streams the T values corresponding to the parameters entered into this {@link NoiseGenerator} object to the given sink one row at a time, from top to bottom.
+	 * Only a bounded number of rows are held in memory at once, and values are normalized without a pass over the entire map, so maps larger than the heap can be written straight to disk or an encoder.
+	 * Subclasses that do not override this method, including those written before it was added, generate the whole map with {@link #generate()} and stream its rows.
+	 * 
+	 * @param sink The {@link NoiseRowSink} accepting each finished row.
+	 * @throws IllegalArgumentException if the given sink is null.
+	 * @since 1.1
+	 */
+	public void stream(final NoiseRowSink sink) throws IllegalArgumentException {
+		if (sink == null) {
+			throw new IllegalArgumentException("A noise row sink cannot be null.");
+		}
+
+		T noise = generate();
+		double[] row = new double[noise.getWidth()];
+
+		for (int y = 0; y < noise.getHeight(); y++) {
+			noise.getNoiseRow(y, row);
+			sink.accept(y, row);
+		}
+	}
+
+	/**
+	 * Streams only the rows between the given start row, inclusive, and end row, exclusive, to the given sink from top to bottom.
+	 * Each row is identical to the corresponding row streamed by {@link #stream(NoiseRowSink)}, so separate bands of the same map can be streamed independently, including concurrently from several threads.
+	 * 
+	 * @param startY The integer y coordinate of the first row being streamed.
+	 * @param endY The integer y coordinate after the last row being streamed.
+	 * @param sink The {@link NoiseRowSink} accepting each finished row.
+	 * @throws IllegalArgumentException if the given sink is null or the given rows are not a non-empty interval within the height of the map.
+	 * @since 1.1
+	 */
+	public void stream(final int startY, final int endY, final NoiseRowSink sink) throws IllegalArgumentException {
+		if (sink == null) {
+			throw new IllegalArgumentException("A noise row sink cannot be null.");
+		} else if (startY < 0 || startY >= endY || endY > getHeight()) {
+			throw new IllegalArgumentException("A streamed noise row range must be a non-empty interval within the height of the map. [" + startY + ", " + endY + ") is outside of it.");
+		}
+
+		stream(startY, endY, createNoiseMask(), sink);
+	}
+
+	/**
+	 * Streams the rows between the given start row, inclusive, and end row, exclusive, masked by the given, already resolved {@link NoiseMask}, so callers streaming many bands resolve the mask only once.
+	 * The rows and sink have already been validated.
+	 * The default implementation generates the whole map with {@link #generate()}, which applies its own {@link NoiseMask}, and streams the requested rows of it.
+	 * 
+	 * @param startY The integer y coordinate of the first row being streamed.
+	 * @param endY The integer y coordinate after the last row being streamed.
+	 * @param mask The {@link NoiseMask} returned by {@link #createNoiseMask()}.
+	 * @param sink The {@link NoiseRowSink} accepting each finished row.
+	 * @since 1.1
+	 */
+	protected void stream(final int startY, final int endY, final NoiseMask mask, final NoiseRowSink sink) {
+		T noise = generate();
+		double[] row = new double[noise.getWidth()];
+
+		for (int y = startY; y < endY; y++) {
+			noise.getNoiseRow(y, row);
+			sink.accept(y, row);
+		}
+	}
+
+	/**
+	 * Returns whether every row streamed by this {@link NoiseGenerator} depends only on the parameters and its own coordinates, so a band of rows costs no more to stream than its share of the whole map.
+	 * Generators whose rows depend on the whole map must still do the work of the whole map for every band, so a {@link NoiseExpression} materializes them once instead of streaming them band by band.
+	 * Rows are assumed to depend on the whole map unless a subclass says otherwise, since the default band streaming generates the whole map.
+	 * 
+	 * @return Whether bands of rows can be streamed independently at no extra cost.
+	 * @since 1.1
+	 */
+	protected boolean hasIndependentRows() {
+		return false;
+	}
+
+	/**
+	 * Constructs a new T object whose values are written straight into the given {@link NoiseStorage}, such as an {@link OffHeapNoiseStorage} mapped from a file, rather than into a heap array.
+	 * The values are the same as those of {@link #generate()} on any storage, and only a bounded number of rows are held on the heap at once, so maps far larger than the heap can be generated and kept.
+	 * Generators that normalize against the minimum and maximum values of the map first write the raw values into the storage, then normalize and mask them in place in a second pass.
+	 * Generators that cannot construct their T objects around a given {@link NoiseStorage}, including subclasses written before this method was added, throw an {@link UnsupportedOperationException}.
+	 * 
+	 * @param noiseStorage The {@link NoiseStorage} receiving the values, with the same dimensions as the generated map.
+	 * @return The T object backed by the given {@link NoiseStorage}.
+	 * @throws IllegalArgumentException if the given {@link NoiseStorage} is null or its dimensions do not match those of the generated map.
+	 * @throws UnsupportedOperationException if this {@link NoiseGenerator} cannot generate into a {@link NoiseStorage}.
+	 * @since 1.1
 	 */
-	protected abstract double[][] generateNoiseArray();
+	public T generate(final NoiseStorage noiseStorage) throws IllegalArgumentException, UnsupportedOperationException {
+		throw new UnsupportedOperationException("The " + getClass().getSimpleName() + " noise generator cannot generate into a noise storage.");
+	}
 }
@@ -0,0 +1,20 @@
+package me.christopherwmm.terra.noise;
+
+/**
+ * A consumer of the finished rows streamed by a {@link NoiseGenerator}.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+@FunctionalInterface
+public interface NoiseRowSink {
+	/**
+	 * Accepts a single finished row of noise values.
+	 * The given array is reused for subsequent rows, so it must be copied if it is needed after this method returns.
+	 * 
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array containing the individual noise values of the row within the interval <b>[0.0 - 1.0]</b>.
+	 * @since 1.1
+	 */
+	public abstract void accept(final int y, final double[] row);
+}
@@ -0,0 +1,71 @@
+package me.christopherwmm.terra.noise;
+
+/**
+ * The backing store holding the individual values of a {@link Noise} object.
+ * Values are addressed by their x and y coordinates and moved in whole rows, so a store may keep them on the heap, in off-heap memory or in a memory mapped file.
+ * Rows may be read and written concurrently as long as no two threads write the same row.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public interface NoiseStorage {
+	/** The largest number of values held within a single heap array, kept below {@link Integer#MAX_VALUE} since some virtual machines reserve header words within arrays and reject arrays at the bare limit. */
+	public static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Returns the non-zero height of this {@link NoiseStorage} object.
+	 *
+	 * @return The non-zero integer height of this {@link NoiseStorage} object.
+	 * @since 1.1
+	 */
+	public abstract int getHeight();
+
+	/**
+	 * Returns the non-zero width of this {@link NoiseStorage} object.
+	 *
+	 * @return The non-zero integer width of this {@link NoiseStorage} object.
+	 * @since 1.1
+	 */
+	public abstract int getWidth();
+
+	/**
+	 * Returns the individual value at the given coordinates.
+	 *
+	 * @param x The integer x coordinate of the value.
+	 * @param y The integer y coordinate of the value.
+	 * @return The double value at the given coordinates.
+	 * @throws IllegalArgumentException if the given coordinates are outside of this {@link NoiseStorage} object.
+	 * @since 1.1
+	 */
+	public abstract double getValue(final int x, final int y) throws IllegalArgumentException;
+
+	/**
+	 * Fills the given row with the values of the given row of this {@link NoiseStorage} object.
+	 *
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array, at least as long as the width, that receives the values.
+	 * @throws IllegalArgumentException if the given row is outside of this {@link NoiseStorage} object or too short.
+	 * @since 1.1
+	 */
+	public abstract void readRow(final int y, final double[] row) throws IllegalArgumentException;
+
+	/**
+	 * Replaces the values of the given row of this {@link NoiseStorage} object with the first width values of the given row.
+	 *
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array, at least as long as the width, containing the new values.
+	 * @throws IllegalArgumentException if the given row is outside of this {@link NoiseStorage} object or too short.
+	 * @since 1.1
+	 */
+	public abstract void writeRow(final int y, final double[] row) throws IllegalArgumentException;
+
+	/**
+	 * Returns a new {@link NoiseStorage} object holding a copy of the values of this {@link NoiseStorage} object.
+	 * Heap stores are copied in constant time, sharing their values with the copy until either of them is first written, while off-heap stores, including mapped files, are copied into newly allocated off-heap memory.
+	 * A store must not be copied while its rows are being written.
+	 *
+	 * @return A new {@link NoiseStorage} object that is a copy of this {@link NoiseStorage} object.
+	 * @since 1.1
+	 */
+	public abstract NoiseStorage copy();
+}
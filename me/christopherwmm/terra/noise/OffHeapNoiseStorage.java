@@ -0,0 +1,258 @@
+package me.christopherwmm.terra.noise;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link NoiseStorage} keeping its values outside of the Java heap, either in directly allocated memory or in a memory mapped file.
+ * Values are split into chunks of whole rows so that maps far larger than a single buffer, such as 50000x50000 maps, can be held without adding to garbage collection pauses.
+ * Mapped files begin with a small header recording the dimensions of the map, so a map can be reopened with {@link #open(Path)} after a restart without being regenerated.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public final class OffHeapNoiseStorage implements NoiseStorage {
+	/** The magic number identifying a mapped noise storage file, the ASCII characters "TRNS". */
+	private static final int FILE_MAGIC = 0x54524E53;
+
+	/** The version of the mapped noise storage file layout. */
+	private static final int FILE_VERSION = 1;
+
+	/** The length in bytes of the header preceding the values of a mapped noise storage file. */
+	private static final int HEADER_BYTES = 16;
+
+	/** The maximum length in bytes of a single chunk of values. */
+	private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+	/** The non-zero integer height of this {@link OffHeapNoiseStorage} object. */
+	private final int height;
+
+	/** The non-zero integer width of this {@link OffHeapNoiseStorage} object. */
+	private final int width;
+
+	/** The number of rows held by every chunk except possibly the last. */
+	private final int rowsPerChunk;
+
+	/** The buffers backing each chunk of rows, which are {@link MappedByteBuffer} objects when this {@link OffHeapNoiseStorage} object is mapped from a file. */
+	private final ByteBuffer[] buffers;
+
+	/** The double views of each chunk of rows, accessed only through absolute indices so they can be shared between threads. */
+	private final DoubleBuffer[] chunks;
+
+	private OffHeapNoiseStorage(final int height, final int width, final ByteBuffer[] buffers) {
+		this.height = height;
+		this.width = width;
+		this.rowsPerChunk = calculateRowsPerChunk(width);
+		this.buffers = buffers;
+		this.chunks = new DoubleBuffer[buffers.length];
+
+		for (int chunk = 0; chunk < buffers.length; chunk++) {
+			this.chunks[chunk] = buffers[chunk].asDoubleBuffer();
+		}
+	}
+
+	/**
+	 * Allocates a new {@link OffHeapNoiseStorage} object in direct memory, with every value initialized to zero.
+	 * Direct memory is limited by the {@code -XX:MaxDirectMemorySize} option, so maps larger than that limit should be mapped from a file instead.
+	 *
+	 * @param height The non-zero integer height of the map.
+	 * @param width The non-zero integer width of the map.
+	 * @return The new {@link OffHeapNoiseStorage} object.
+	 * @throws IllegalArgumentException if the given dimensions are outside of the valid range.
+	 * @since 1.1
+	 */
+	public static OffHeapNoiseStorage allocate(final int height, final int width) throws IllegalArgumentException {
+		checkDimensions(height, width);
+
+		int rowsPerChunk = calculateRowsPerChunk(width);
+		ByteBuffer[] buffers = new ByteBuffer[calculateChunkCount(height, rowsPerChunk)];
+
+		for (int chunk = 0; chunk < buffers.length; chunk++) {
+			int rows = Math.min(rowsPerChunk, height - chunk * rowsPerChunk);
+			buffers[chunk] = ByteBuffer.allocateDirect(rows * width * Double.BYTES).order(ByteOrder.nativeOrder());
+		}
+
+		return new OffHeapNoiseStorage(height, width, buffers);
+	}
+
+	/**
+	 * Creates a new file at the given path, replacing any existing file, and maps a new {@link OffHeapNoiseStorage} object onto it with every value initialized to zero.
+	 * Values are written through to the file by the operating system, and {@link #force()} waits until they have reached the disk.
+	 *
+	 * @param path The {@link Path} of the file being created.
+	 * @param height The non-zero integer height of the map.
+	 * @param width The non-zero integer width of the map.
+	 * @return The new {@link OffHeapNoiseStorage} object mapped onto the file.
+	 * @throws IllegalArgumentException if the given path is null or the given dimensions are outside of the valid range.
+	 * @throws IOException if the file cannot be created or mapped.
+	 * @since 1.1
+	 */
+	public static OffHeapNoiseStorage create(final Path path, final int height, final int width) throws IllegalArgumentException, IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("A noise storage file path cannot be null.");
+		}
+
+		checkDimensions(height, width);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt(height).putInt(width).flip();
+
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+
+			return new OffHeapNoiseStorage(height, width, map(channel, height, width));
+		}
+	}
+
+	/**
+	 * Maps a new {@link OffHeapNoiseStorage} object onto an existing file previously created by {@link #create(Path, int, int)}.
+	 * Changes to the values are written back to the file.
+	 *
+	 * @param path The {@link Path} of the file being opened.
+	 * @return The {@link OffHeapNoiseStorage} object mapped onto the file.
+	 * @throws IllegalArgumentException if the given path is null.
+	 * @throws IOException if the file cannot be read, is not a noise storage file or is truncated.
+	 * @since 1.1
+	 */
+	public static OffHeapNoiseStorage open(final Path path) throws IllegalArgumentException, IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("A noise storage file path cannot be null.");
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("The noise storage file " + path + " is missing its header.");
+				}
+			}
+
+			header.flip();
+
+			int magic = header.getInt();
+			int version = header.getInt();
+			int height = header.getInt();
+			int width = header.getInt();
+
+			if (magic != FILE_MAGIC) {
+				throw new IOException("The file " + path + " is not a noise storage file.");
+			} else if (version != FILE_VERSION) {
+				throw new IOException("The noise storage file " + path + " uses the unsupported version " + version + ".");
+			} else if (height < 1 || width < 1 || width > MAX_CHUNK_BYTES / Double.BYTES) {
+				throw new IOException("The noise storage file " + path + " records the invalid dimensions " + width + "x" + height + ".");
+			} else if (channel.size() < HEADER_BYTES + (long) height * width * Double.BYTES) {
+				throw new IOException("The noise storage file " + path + " is truncated.");
+			}
+
+			return new OffHeapNoiseStorage(height, width, map(channel, height, width));
+		}
+	}
+
+	/**
+	 * Maps every chunk of rows of a noise storage file, growing the file if it is not yet long enough.
+	 * Mappings stay valid after the channel is closed.
+	 */
+	private static ByteBuffer[] map(final FileChannel channel, final int height, final int width) throws IOException {
+		int rowsPerChunk = calculateRowsPerChunk(width);
+		ByteBuffer[] buffers = new ByteBuffer[calculateChunkCount(height, rowsPerChunk)];
+
+		for (int chunk = 0; chunk < buffers.length; chunk++) {
+			int rows = Math.min(rowsPerChunk, height - chunk * rowsPerChunk);
+			long position = HEADER_BYTES + (long) chunk * rowsPerChunk * width * Double.BYTES;
+			buffers[chunk] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) rows * width * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		return buffers;
+	}
+
+	private static void checkDimensions(final int height, final int width) throws IllegalArgumentException {
+		if (height < 1) {
+			throw new IllegalArgumentException("A noise storage height must be a positive, non-zero value. " + height + " is too small.");
+		} else if (width < 1) {
+			throw new IllegalArgumentException("A noise storage width must be a positive, non-zero value. " + width + " is too small.");
+		} else if (width > MAX_CHUNK_BYTES / Double.BYTES) {
+			throw new IllegalArgumentException("A noise storage width must fit a single row within one chunk. " + width + " is too large.");
+		}
+	}
+
+	private static int calculateRowsPerChunk(final int width) {
+		return MAX_CHUNK_BYTES / (width * Double.BYTES);
+	}
+
+	private static int calculateChunkCount(final int height, final int rowsPerChunk) {
+		return (height + rowsPerChunk - 1) / rowsPerChunk;
+	}
+
+	/**
+	 * Waits until every value of this {@link OffHeapNoiseStorage} object has been written to its file.
+	 * Storage allocated in direct memory has no file, so this method does nothing for it.
+	 *
+	 * @since 1.1
+	 */
+	public void force() {
+		for (ByteBuffer buffer : this.buffers) {
+			if (buffer instanceof MappedByteBuffer) {
+				((MappedByteBuffer) buffer).force();
+			}
+		}
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	@Override
+	public double getValue(final int x, final int y) throws IllegalArgumentException {
+		if (x < 0 || x >= this.width || y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise value must be within the bounds of the noise map. (" + x + ", " + y + ") is outside of them.");
+		}
+
+		return this.chunks[y / this.rowsPerChunk].get((y % this.rowsPerChunk) * this.width + x);
+	}
+
+	@Override
+	public void readRow(final int y, final double[] row) throws IllegalArgumentException {
+		checkRow(y, row);
+		this.chunks[y / this.rowsPerChunk].get((y % this.rowsPerChunk) * this.width, row, 0, this.width);
+	}
+
+	@Override
+	public void writeRow(final int y, final double[] row) throws IllegalArgumentException {
+		checkRow(y, row);
+		this.chunks[y / this.rowsPerChunk].put((y % this.rowsPerChunk) * this.width, row, 0, this.width);
+	}
+
+	@Override
+	public OffHeapNoiseStorage copy() {
+		OffHeapNoiseStorage copy = allocate(this.height, this.width);
+
+		for (int chunk = 0; chunk < this.chunks.length; chunk++) {
+			copy.chunks[chunk].put(0, this.chunks[chunk], 0, this.chunks[chunk].capacity());
+		}
+
+		return copy;
+	}
+
+	private void checkRow(final int y, final double[] row) throws IllegalArgumentException {
+		if (y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise row must be within the height of the noise map. " + y + " is outside that interval.");
+		} else if (row == null || row.length < this.width) {
+			throw new IllegalArgumentException("A noise row must be at least as long as the width of the noise map.");
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package me.christopherwmm.terra.noise;
+
+/**
+ * A read-only view of another {@link NoiseStorage}, through which the values of a {@link Noise} object can be read without copying them and without any risk of modifying them.
+ * Copying the view returns a writable copy of the underlying values.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class ReadOnlyNoiseStorage implements NoiseStorage {
+	/** The {@link NoiseStorage} being viewed. */
+	private final NoiseStorage storage;
+
+	ReadOnlyNoiseStorage(final NoiseStorage storage) {
+		this.storage = storage;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.storage.getHeight();
+	}
+
+	@Override
+	public int getWidth() {
+		return this.storage.getWidth();
+	}
+
+	@Override
+	public double getValue(final int x, final int y) throws IllegalArgumentException {
+		return this.storage.getValue(x, y);
+	}
+
+	@Override
+	public void readRow(final int y, final double[] row) throws IllegalArgumentException {
+		this.storage.readRow(y, row);
+	}
+
+	/**
+	 * Always throws, since the values of a read-only view cannot be modified.
+	 *
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void writeRow(final int y, final double[] row) throws UnsupportedOperationException {
+		throw new UnsupportedOperationException("A read-only noise storage view cannot be written. Copy it to obtain a writable noise storage.");
+	}
+
+	@Override
+	public NoiseStorage copy() {
+		return this.storage.copy();
+	}
+}
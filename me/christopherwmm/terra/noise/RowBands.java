@@ -0,0 +1,179 @@
+package me.christopherwmm.terra.noise;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Splits a range of rows into bands that are processed across the common {@link ForkJoinPool}.
+ * The range is halved along band boundaries until each part fits a single band, so every band except the last one is exactly as tall as the requested band height.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public final class RowBands {
+	/** The number of rows processed by a single fork-join task unless a caller asks for another band height. */
+	public static final int DEFAULT_BAND_HEIGHT = 32;
+
+	private RowBands() {}
+
+	/**
+	 * Applies the given {@link BandAction} to every band of {@link #DEFAULT_BAND_HEIGHT} rows of the given range across the common {@link ForkJoinPool}.
+	 *
+	 * @param startY The integer index of the first row of the range.
+	 * @param endY The integer index one past the last row of the range.
+	 * @param action The {@link BandAction} applied to each band.
+	 * @since 1.1
+	 */
+	public static void forEach(final int startY, final int endY, final BandAction action) {
+		forEach(startY, endY, DEFAULT_BAND_HEIGHT, action);
+	}
+
+	/**
+	 * Applies the given {@link BandAction} to every band of the given range across the common {@link ForkJoinPool}.
+	 *
+	 * @param startY The integer index of the first row of the range.
+	 * @param endY The integer index one past the last row of the range.
+	 * @param bandHeight The non-zero integer number of rows in a single band.
+	 * @param action The {@link BandAction} applied to each band.
+	 * @throws IllegalArgumentException if the given band height is outside of the valid range.
+	 * @since 1.1
+	 */
+	public static void forEach(final int startY, final int endY, final int bandHeight, final BandAction action) throws IllegalArgumentException {
+		if (bandHeight < 1) {
+			throw new IllegalArgumentException("A row band height must be a positive, non-zero value. " + bandHeight + " is too small.");
+		}
+
+		ForkJoinPool.commonPool().invoke(new BandTask(action, bandHeight, startY, endY));
+	}
+
+	/**
+	 * Applies the given {@link BandFunction} to every band of {@link #DEFAULT_BAND_HEIGHT} rows of the given range across the common {@link ForkJoinPool}, combining the results of neighbouring bands until a single result remains.
+	 *
+	 * @param <T> The type of the result of each band.
+	 * @param startY The integer index of the first row of the range.
+	 * @param endY The integer index one past the last row of the range.
+	 * @param function The {@link BandFunction} applied to each band.
+	 * @param combiner The {@link BinaryOperator} combining the results of an upper band and the band below it.
+	 * @return The combined result of every band.
+	 * @since 1.1
+	 */
+	public static <T> T reduce(final int startY, final int endY, final BandFunction<T> function, final BinaryOperator<T> combiner) {
+		return ForkJoinPool.commonPool().invoke(new ReduceBandTask<>(function, combiner, DEFAULT_BAND_HEIGHT, startY, endY));
+	}
+
+	private static int split(final int bandHeight, final int startY, final int endY) {
+		int bands = (endY - startY + bandHeight - 1) / bandHeight;
+		return startY + (bands / 2) * bandHeight;
+	}
+
+	/**
+	 * An action applied to a single band of rows by {@link RowBands#forEach(int, int, int, BandAction)}.
+	 *
+	 * @since 1.1
+	 * @author ChristopherWMM
+	 */
+	@FunctionalInterface
+	public static interface BandAction {
+		/**
+		 * Processes the given band of rows.
+		 *
+		 * @param startY The integer index of the first row of the band.
+		 * @param endY The integer index one past the last row of the band.
+		 * @since 1.1
+		 */
+		public abstract void apply(final int startY, final int endY);
+	}
+
+	/**
+	 * A function applied to a single band of rows by {@link RowBands#reduce(int, int, BandFunction, BinaryOperator)}.
+	 *
+	 * @param <T> The type of the result of each band.
+	 * @since 1.1
+	 * @author ChristopherWMM
+	 */
+	@FunctionalInterface
+	public static interface BandFunction<T> {
+		/**
+		 * Processes the given band of rows.
+		 *
+		 * @param startY The integer index of the first row of the band.
+		 * @param endY The integer index one past the last row of the band.
+		 * @return The result of the band.
+		 * @since 1.1
+		 */
+		public abstract T apply(final int startY, final int endY);
+	}
+
+	/**
+	 * A fork-join task that applies a {@link BandAction}, splitting its range in half until it fits a single band.
+	 */
+	private static final class BandTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final BandAction action;
+		private final int bandHeight;
+		private final int startY;
+		private final int endY;
+
+		private BandTask(final BandAction action, final int bandHeight, final int startY, final int endY) {
+			this.action = action;
+			this.bandHeight = bandHeight;
+			this.startY = startY;
+			this.endY = endY;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.endY - this.startY <= this.bandHeight) {
+				this.action.apply(this.startY, this.endY);
+				return;
+			}
+
+			int middleY = split(this.bandHeight, this.startY, this.endY);
+
+			invokeAll(new BandTask(this.action, this.bandHeight, this.startY, middleY),
+					new BandTask(this.action, this.bandHeight, middleY, this.endY));
+		}
+	}
+
+	/**
+	 * A fork-join task that applies a {@link BandFunction}, splitting its range in half until it fits a single band and combining the results of both halves.
+	 */
+	private static final class ReduceBandTask<T> extends RecursiveTask<T> {
+		private static final long serialVersionUID = 1L;
+
+		private final BandFunction<T> function;
+		private final BinaryOperator<T> combiner;
+		private final int bandHeight;
+		private final int startY;
+		private final int endY;
+
+		private ReduceBandTask(final BandFunction<T> function, final BinaryOperator<T> combiner, final int bandHeight, final int startY, final int endY) {
+			this.function = function;
+			this.combiner = combiner;
+			this.bandHeight = bandHeight;
+			this.startY = startY;
+			this.endY = endY;
+		}
+
+		@Override
+		protected T compute() {
+			if (this.endY - this.startY <= this.bandHeight) {
+				return this.function.apply(this.startY, this.endY);
+			}
+
+			int middleY = split(this.bandHeight, this.startY, this.endY);
+
+			ReduceBandTask<T> upper = new ReduceBandTask<>(this.function, this.combiner, this.bandHeight, this.startY, middleY);
+			ReduceBandTask<T> lower = new ReduceBandTask<>(this.function, this.combiner, this.bandHeight, middleY, this.endY);
+
+			upper.fork();
+			T lowerResult = lower.compute();
+			T upperResult = upper.join();
+
+			return this.combiner.apply(upperResult, lowerResult);
+		}
+	}
+}
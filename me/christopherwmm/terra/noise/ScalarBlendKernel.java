@@ -0,0 +1,110 @@
+package me.christopherwmm.terra.noise;
+
+/**
+ * The portable {@link BlendKernel} that blends each value of a run one at a time through {@link BlendMode#blend(double, double)}.
+ * Its static blend functions back every {@link BlendMode}, so the results are bit-identical to blending each value individually.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class ScalarBlendKernel implements BlendKernel {
+	/** The shared stateless instance of the {@link ScalarBlendKernel}. */
+	static final ScalarBlendKernel INSTANCE = new ScalarBlendKernel();
+
+	@Override
+	public void blend(final BlendMode mode, final double[] base, final int baseOffset, final double[] layer, final int layerOffset, final int length, final double opacity) {
+		blend(mode, base, baseOffset, layer, layerOffset, length, opacity, 0);
+	}
+
+	/**
+	 * Blends the given run of layer values onto the given run of base values starting at the given index of the run.
+	 * Used by vectorized kernels to finish the tail of a run that does not fill an entire vector.
+	 *
+	 * @see BlendKernel#blend(BlendMode, double[], int, double[], int, int, double)
+	 * @since 1.1
+	 */
+	static void blend(final BlendMode mode, final double[] base, final int baseOffset, final double[] layer, final int layerOffset, final int length, final double opacity, final int start) {
+		if (opacity == 0) {
+			return;
+		}
+
+		for (int i = start, b = baseOffset + start, l = layerOffset + start; i < length; i++, b++, l++) {
+			base[b] = mix(base[b], mode.blend(base[b], layer[l]), opacity);
+		}
+	}
+
+	/**
+	 * Interpolates between the given base value and blended value by the given opacity, returning the blended value exactly when fully opaque.
+	 */
+	private static double mix(final double x, final double blended, final double opacity) {
+		return (opacity == 1) ? blended : x + (blended - x) * opacity;
+	}
+
+	static double darken(final double x, final double y) {
+		return Math.min(x, y);
+	}
+
+	static double multiply(final double x, final double y) {
+		return x * y;
+	}
+
+	static double colorBurn(final double x, final double y) {
+		return (y > 0) ? Math.max(1 - (1 - x) / y, 0) : 0;
+	}
+
+	static double linearBurn(final double x, final double y) {
+		return Math.max(x + y - 1, 0);
+	}
+
+	static double lighten(final double x, final double y) {
+		return Math.max(x, y);
+	}
+
+	static double colorDodge(final double x, final double y) {
+		return (y < 1) ? Math.min(x / (1 - y), 1) : 1;
+	}
+
+	static double linearDodge(final double x, final double y) {
+		return Math.min(x + y, 1);
+	}
+
+	static double screen(final double x, final double y) {
+		return 1 - (1 - x) * (1 - y);
+	}
+
+	static double overlay(final double x, final double y) {
+		return (x <= 0.5) ? (2 * x * y) : (1 - 2 * (1 - x) * (1 - y));
+	}
+
+	static double softLight(final double x, final double y) {
+		return (y <= 0.5) ? x * (y + 0.5) : 1 - (1 - x) * (1 - (y - 0.5));
+	}
+
+	static double hardLight(final double x, final double y) {
+		return (y <= 0.5) ? 2 * x * y : 1 - (1 - x) * (1 - 2 * (y - 0.5));
+	}
+
+	static double vividLight(final double x, final double y) {
+		return (y <= 0.5) ? ((y != 0) ? Math.max(1 - (1 - x) / (2 * y), 0) : 0) : ((y != 1) ? Math.min(x / (2 * (1 - y)), 1) : 1);
+	}
+
+	static double linearLight(final double x, final double y) {
+		return Math.max(Math.min(x + 2 * y - 1, 1), 0);
+	}
+
+	static double pinLight(final double x, final double y) {
+		return (y <= 0.5) ? Math.min(x, 2 * y) : Math.max(x, 2 * (y - 0.5));
+	}
+
+	static double hardMix(final double x, final double y) {
+		return (y < 1 - x) ? 0 : 1;
+	}
+
+	static double difference(final double x, final double y) {
+		return Math.abs(y - x);
+	}
+
+	static double exclusion(final double x, final double y) {
+		return 0.5 - 2 * (x - 0.5) * (y - 0.5);
+	}
+}
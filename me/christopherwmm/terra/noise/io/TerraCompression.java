@@ -0,0 +1,37 @@
+package me.christopherwmm.terra.noise.io;
+
+/**
+ * The accepted methodologies for compressing the individual chunks of a .terra file.
+ * Chunks that would not shrink are always stored uncompressed, so a reader can map them without any decoding.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public enum TerraCompression {
+	/** Every chunk is stored uncompressed. */
+	None(0),
+
+	/** Every chunk is compressed with the DEFLATE algorithm of {@link java.util.zip.Deflater}. */
+	Deflate(1);
+
+	/** The identifier of this {@link TerraCompression} within a .terra file header. */
+	private final int code;
+
+	private TerraCompression(final int code) {
+		this.code = code;
+	}
+
+	int getCode() {
+		return this.code;
+	}
+
+	static TerraCompression fromCode(final int code) {
+		for (TerraCompression compression : values()) {
+			if (compression.code == code) {
+				return compression;
+			}
+		}
+
+		return null;
+	}
+}
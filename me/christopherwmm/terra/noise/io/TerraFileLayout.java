@@ -0,0 +1,49 @@
+package me.christopherwmm.terra.noise.io;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The constants describing the binary layout of a .terra file, shared by the {@link TerraFileWriter} and the {@link TerraFileReader}.
+ * <p>
+ * Every value is little-endian. A file begins with a fixed header, followed by its metadata properties, its chunks and finally its chunk index:
+ * <pre>
+ *  0  byte[8] magic "TERRAMAP"
+ *  8  int     version
+ * 12  int     height
+ * 16  int     width
+ * 20  int     chunk size
+ * 24  byte    sample format
+ * 25  byte    compression
+ * 26  short   property count
+ * 28  long    seed
+ * 36  long    index offset
+ * 44  properties, each a key and a value written as a short length followed by UTF-8 bytes
+ * ..  chunks, in row-major chunk order, each holding its values in row-major order
+ * ..  index, one entry per chunk: long offset, int stored length, byte flags and three reserved bytes
+ * </pre>
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class TerraFileLayout {
+	/** The magic bytes identifying a .terra file. */
+	static final byte[] MAGIC = "TERRAMAP".getBytes(StandardCharsets.US_ASCII);
+
+	/** The version of the .terra file layout. */
+	static final int VERSION = 1;
+
+	/** The length in bytes of the fixed portion of the header. */
+	static final int FIXED_HEADER_BYTES = 44;
+
+	/** The byte offset of the index offset within the fixed header. */
+	static final int INDEX_OFFSET_POSITION = 36;
+
+	/** The length in bytes of a single chunk index entry. */
+	static final int INDEX_ENTRY_BYTES = 16;
+
+	/** The index entry flag marking a chunk that is stored compressed. */
+	static final int FLAG_COMPRESSED = 1;
+
+	private TerraFileLayout() {
+	}
+}
@@ -0,0 +1,405 @@
+package me.christopherwmm.terra.noise.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import me.christopherwmm.terra.noise.NoiseStorage;
+
+/**
+ * Reads .terra files written by a {@link TerraFileWriter}, loading individual chunks lazily.
+ * Opening a file only reads its header and chunk index, so even a file of many gigabytes opens instantly, and reading a region only maps and decodes the chunks it overlaps.
+ * Recently decoded chunks are kept in a small least recently used cache. Readers are thread-safe and must be closed once they are no longer needed.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public final class TerraFileReader implements Closeable {
+	/** The default maximum number of decoded chunks kept in memory. */
+	private static final int DEFAULT_CACHED_CHUNKS = 64;
+
+	/** The open channel of the file being read. */
+	private final FileChannel channel;
+
+	private final int height;
+	private final int width;
+	private final long seed;
+	private final int chunkSize;
+	private final int chunksAcross;
+	private final TerraSampleFormat sampleFormat;
+	private final TerraCompression compression;
+	private final Map<String, String> properties;
+
+	/** The byte offset of every chunk within the file, in row-major chunk order. */
+	private final long[] chunkOffsets;
+
+	/** The stored length in bytes of every chunk, in row-major chunk order. */
+	private final int[] chunkLengths;
+
+	/** The flags of every chunk, in row-major chunk order. */
+	private final byte[] chunkFlags;
+
+	/** The access-ordered cache of decoded chunks keyed by their chunk index. */
+	private final Map<Integer, double[]> chunks;
+
+	private TerraFileReader(final FileChannel channel, final Path path, final int cachedChunks) throws IOException {
+		this.channel = channel;
+
+		ByteBuffer header = readFully(0, TerraFileLayout.FIXED_HEADER_BYTES, path);
+		byte[] magic = new byte[TerraFileLayout.MAGIC.length];
+		header.get(magic);
+
+		if (!Arrays.equals(magic, TerraFileLayout.MAGIC)) {
+			throw new IOException("The file " + path + " is not a terra file.");
+		}
+
+		int version = header.getInt();
+
+		if (version != TerraFileLayout.VERSION) {
+			throw new IOException("The terra file " + path + " uses the unsupported version " + version + ".");
+		}
+
+		this.height = header.getInt();
+		this.width = header.getInt();
+		this.chunkSize = header.getInt();
+		this.sampleFormat = TerraSampleFormat.fromCode(header.get());
+		this.compression = TerraCompression.fromCode(header.get());
+
+		int propertyCount = header.getShort() & 0xFFFF;
+		this.seed = header.getLong();
+		long indexOffset = header.getLong();
+
+		if (this.height < 1 || this.width < 1 || this.chunkSize < 1 || this.sampleFormat == null || this.compression == null || indexOffset < TerraFileLayout.FIXED_HEADER_BYTES) {
+			throw new IOException("The terra file " + path + " has a corrupt header.");
+		}
+
+		Map<String, String> properties = new LinkedHashMap<>();
+		long position = TerraFileLayout.FIXED_HEADER_BYTES;
+
+		for (int property = 0; property < propertyCount; property++) {
+			int keyLength = readFully(position, Short.BYTES, path).getShort() & 0xFFFF;
+			String key = new String(readFully(position + Short.BYTES, keyLength, path).array(), StandardCharsets.UTF_8);
+			position += Short.BYTES + keyLength;
+
+			int valueLength = readFully(position, Short.BYTES, path).getShort() & 0xFFFF;
+			String value = new String(readFully(position + Short.BYTES, valueLength, path).array(), StandardCharsets.UTF_8);
+			position += Short.BYTES + valueLength;
+
+			properties.put(key, value);
+		}
+
+		this.properties = Collections.unmodifiableMap(properties);
+
+		int chunksDown = (this.height + this.chunkSize - 1) / this.chunkSize;
+		this.chunksAcross = (this.width + this.chunkSize - 1) / this.chunkSize;
+
+		int chunkCount = Math.multiplyExact(chunksDown, this.chunksAcross);
+		ByteBuffer index = readFully(indexOffset, Math.multiplyExact(chunkCount, TerraFileLayout.INDEX_ENTRY_BYTES), path);
+
+		this.chunkOffsets = new long[chunkCount];
+		this.chunkLengths = new int[chunkCount];
+		this.chunkFlags = new byte[chunkCount];
+
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			this.chunkOffsets[chunk] = index.getLong();
+			this.chunkLengths[chunk] = index.getInt();
+			this.chunkFlags[chunk] = index.get();
+			index.position(index.position() + 3);
+
+			if (this.chunkOffsets[chunk] < position || this.chunkLengths[chunk] < 0 || this.chunkOffsets[chunk] + this.chunkLengths[chunk] > indexOffset) {
+				throw new IOException("The terra file " + path + " has a corrupt chunk index.");
+			}
+		}
+
+		this.chunks = new LinkedHashMap<Integer, double[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Integer, double[]> eldest) {
+				return size() > cachedChunks;
+			}
+		};
+	}
+
+	/**
+	 * Opens the .terra file at the given path, reading only its header and chunk index.
+	 *
+	 * @param path The {@link Path} of the file being opened.
+	 * @return The {@link TerraFileReader} object reading the file.
+	 * @throws IllegalArgumentException if the given path is null.
+	 * @throws IOException if the file cannot be read or is not a valid .terra file.
+	 * @since 1.1
+	 */
+	public static TerraFileReader open(final Path path) throws IllegalArgumentException, IOException {
+		return open(path, DEFAULT_CACHED_CHUNKS);
+	}
+
+	/**
+	 * Opens the .terra file at the given path, reading only its header and chunk index, and keeping at most the given number of decoded chunks in memory.
+	 *
+	 * @param path The {@link Path} of the file being opened.
+	 * @param cachedChunks The non-zero maximum number of decoded chunks kept in memory.
+	 * @return The {@link TerraFileReader} object reading the file.
+	 * @throws IllegalArgumentException if the given path is null or the given number of chunks is outside of the valid range.
+	 * @throws IOException if the file cannot be read or is not a valid .terra file.
+	 * @since 1.1
+	 */
+	public static TerraFileReader open(final Path path, final int cachedChunks) throws IllegalArgumentException, IOException {
+		if (path == null) {
+			throw new IllegalArgumentException("A terra file path cannot be null.");
+		} else if (cachedChunks < 1) {
+			throw new IllegalArgumentException("A terra file chunk cache must hold a positive, non-zero number of chunks. " + cachedChunks + " is too small.");
+		}
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			return new TerraFileReader(channel, path, cachedChunks);
+		} catch (IOException | RuntimeException exception) {
+			channel.close();
+			throw exception;
+		}
+	}
+
+	public int getHeight() {
+		return this.height;
+	}
+
+	public int getWidth() {
+		return this.width;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	public TerraSampleFormat getSampleFormat() {
+		return this.sampleFormat;
+	}
+
+	public TerraCompression getCompression() {
+		return this.compression;
+	}
+
+	/**
+	 * Returns the metadata properties recorded in the header, including the generator type and parameters of the map.
+	 *
+	 * @return The unmodifiable {@link Map} of metadata properties in the order they were written.
+	 * @since 1.1
+	 */
+	public Map<String, String> getProperties() {
+		return this.properties;
+	}
+
+	/**
+	 * Returns the individual value at the given coordinates, loading only the chunk containing it.
+	 *
+	 * @param x The integer x coordinate of the value.
+	 * @param y The integer y coordinate of the value.
+	 * @return The double value at the given coordinates.
+	 * @throws IllegalArgumentException if the given coordinates are outside of the map.
+	 * @throws IOException if the chunk cannot be read or is corrupt.
+	 * @since 1.1
+	 */
+	public double getValue(final int x, final int y) throws IllegalArgumentException, IOException {
+		if (x < 0 || x >= this.width || y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A terra file value must be within the bounds of the map. (" + x + ", " + y + ") is outside of them.");
+		}
+
+		int chunkX = x / this.chunkSize;
+		int chunkY = y / this.chunkSize;
+		int chunkWidth = Math.min(this.chunkSize, this.width - chunkX * this.chunkSize);
+
+		return getChunk(chunkX, chunkY)[(y - chunkY * this.chunkSize) * chunkWidth + (x - chunkX * this.chunkSize)];
+	}
+
+	/**
+	 * Reads the given rectangular region of the map, loading only the chunks it overlaps.
+	 *
+	 * @param x The integer x coordinate of the top left corner of the region.
+	 * @param y The integer y coordinate of the top left corner of the region.
+	 * @param width The non-zero integer width of the region.
+	 * @param height The non-zero integer height of the region.
+	 * @return A new row-major double array of the values of the region, where the value at (x, y) of the region is stored at index {@code y * width + x}.
+	 * @throws IllegalArgumentException if the given region is outside of the map.
+	 * @throws IOException if a chunk cannot be read or is corrupt.
+	 * @since 1.1
+	 */
+	public double[] readRegion(final int x, final int y, final int width, final int height) throws IllegalArgumentException, IOException {
+		if (width < 1 || height < 1 || (long) width * height > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("A terra file region must have a positive, non-zero size that fits within a single array.");
+		}
+
+		double[] region = new double[width * height];
+		readRegion(x, y, width, height, region);
+
+		return region;
+	}
+
+	/**
+	 * Reads the given rectangular region of the map into the given row-major array, loading only the chunks it overlaps.
+	 *
+	 * @param x The integer x coordinate of the top left corner of the region.
+	 * @param y The integer y coordinate of the top left corner of the region.
+	 * @param width The non-zero integer width of the region.
+	 * @param height The non-zero integer height of the region.
+	 * @param region The double array, at least width * height long, that receives the values of the region.
+	 * @throws IllegalArgumentException if the given region is outside of the map or the given array is too short.
+	 * @throws IOException if a chunk cannot be read or is corrupt.
+	 * @since 1.1
+	 */
+	public void readRegion(final int x, final int y, final int width, final int height, final double[] region) throws IllegalArgumentException, IOException {
+		if (width < 1 || height < 1 || x < 0 || y < 0 || x > this.width - width || y > this.height - height) {
+			throw new IllegalArgumentException("A terra file region must be within the bounds of the map. " + width + "x" + height + " at (" + x + ", " + y + ") is outside of them.");
+		} else if (region == null || region.length < (long) width * height) {
+			throw new IllegalArgumentException("A terra file region array must be at least as long as the region.");
+		}
+
+		int endX = x + width;
+		int endY = y + height;
+
+		for (int chunkY = y / this.chunkSize; chunkY * this.chunkSize < endY; chunkY++) {
+			int chunkStartY = chunkY * this.chunkSize;
+			int startRow = Math.max(y, chunkStartY);
+			int endRow = Math.min(endY, chunkStartY + this.chunkSize);
+
+			for (int chunkX = x / this.chunkSize; chunkX * this.chunkSize < endX; chunkX++) {
+				int chunkStartX = chunkX * this.chunkSize;
+				int chunkWidth = Math.min(this.chunkSize, this.width - chunkStartX);
+				int startColumn = Math.max(x, chunkStartX);
+				int columns = Math.min(endX, chunkStartX + chunkWidth) - startColumn;
+				double[] chunk = getChunk(chunkX, chunkY);
+
+				for (int row = startRow; row < endRow; row++) {
+					System.arraycopy(chunk, (row - chunkStartY) * chunkWidth + (startColumn - chunkStartX), region, (row - y) * width + (startColumn - x), columns);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills the given row with the values of the given row of the map.
+	 *
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array, at least as long as the width, that receives the values.
+	 * @throws IllegalArgumentException if the given row is outside of the map or too short.
+	 * @throws IOException if a chunk cannot be read or is corrupt.
+	 * @since 1.1
+	 */
+	public void readRow(final int y, final double[] row) throws IllegalArgumentException, IOException {
+		readRegion(0, y, this.width, 1, row);
+	}
+
+	/**
+	 * Closes the underlying file. Chunks that were already mapped remain readable until they are garbage collected.
+	 *
+	 * @throws IOException if the file cannot be closed.
+	 * @since 1.1
+	 */
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	/**
+	 * Returns the decoded values of the given chunk in row-major order, decoding the chunk if it is not cached.
+	 * Chunks are decoded outside of the cache lock, so concurrent readers of different chunks never wait on each other.
+	 */
+	private double[] getChunk(final int chunkX, final int chunkY) throws IOException {
+		Integer chunk = chunkY * this.chunksAcross + chunkX;
+
+		synchronized (this.chunks) {
+			double[] values = this.chunks.get(chunk);
+
+			if (values != null) {
+				return values;
+			}
+		}
+
+		int chunkWidth = Math.min(this.chunkSize, this.width - chunkX * this.chunkSize);
+		int chunkHeight = Math.min(this.chunkSize, this.height - chunkY * this.chunkSize);
+		double[] values = decodeChunk(chunk, chunkWidth * chunkHeight);
+
+		synchronized (this.chunks) {
+			this.chunks.put(chunk, values);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Maps the stored bytes of the given chunk and decodes them, inflating them first if the chunk is compressed.
+	 * Uncompressed chunks are decoded straight out of the mapped file without an intermediate copy.
+	 */
+	private double[] decodeChunk(final int chunk, final int valueCount) throws IOException {
+		int rawLength = valueCount * this.sampleFormat.getBytes();
+		ByteBuffer stored = this.channel.map(FileChannel.MapMode.READ_ONLY, this.chunkOffsets[chunk], this.chunkLengths[chunk]);
+		ByteBuffer raw;
+
+		if ((this.chunkFlags[chunk] & TerraFileLayout.FLAG_COMPRESSED) != 0) {
+			raw = ByteBuffer.allocate(rawLength);
+			Inflater inflater = new Inflater();
+
+			try {
+				inflater.setInput(stored);
+
+				while (raw.hasRemaining() && !inflater.finished()) {
+					if (inflater.inflate(raw) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+				}
+			} catch (DataFormatException exception) {
+				throw new IOException("The terra file chunk " + chunk + " is corrupt.", exception);
+			} finally {
+				inflater.end();
+			}
+
+			if (raw.hasRemaining()) {
+				throw new IOException("The terra file chunk " + chunk + " is truncated.");
+			}
+		} else if (this.chunkLengths[chunk] != rawLength) {
+			throw new IOException("The terra file chunk " + chunk + " is truncated.");
+		} else {
+			raw = stored;
+		}
+
+		raw.order(ByteOrder.LITTLE_ENDIAN);
+
+		double[] values = new double[valueCount];
+		int sampleBytes = this.sampleFormat.getBytes();
+
+		for (int value = 0; value < valueCount; value++) {
+			values[value] = this.sampleFormat.decode(raw, value * sampleBytes);
+		}
+
+		return values;
+	}
+
+	private ByteBuffer readFully(final long position, final int length, final Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+
+		while (buffer.hasRemaining()) {
+			if (this.channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("The terra file " + path + " is truncated.");
+			}
+		}
+
+		buffer.flip();
+		return buffer;
+	}
+}
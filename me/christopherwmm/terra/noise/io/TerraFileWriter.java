@@ -0,0 +1,291 @@
+package me.christopherwmm.terra.noise.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.perlin.PerlinNoise;
+import me.christopherwmm.terra.noise.simplex.SimplexNoise;
+import me.christopherwmm.terra.noise.voronoi.VoronoiNoise;
+import me.christopherwmm.terra.noise.white.WhiteNoise;
+
+/**
+ * Writes {@link Noise} objects to the compact binary .terra file format described by {@link TerraFileLayout}.
+ * The header records the generator type and parameters of the map as metadata properties, and the values are split into square chunks that are encoded and compressed independently so a {@link TerraFileReader} can load any region without reading the rest of the file.
+ * Maps are read one band of chunk rows at a time, so maps backed by an off-heap {@link me.christopherwmm.terra.noise.NoiseStorage} can be written without loading them onto the heap.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class TerraFileWriter {
+	/** The largest length in bytes of a metadata key or value. */
+	private static final int MAX_PROPERTY_BYTES = 0xFFFF;
+
+	private TerraSampleFormat sampleFormat;
+	private TerraCompression compression;
+	private int chunkSize;
+	private final Map<String, String> properties;
+
+	public TerraFileWriter() {
+		this.sampleFormat = TerraSampleFormat.Float32;
+		this.compression = TerraCompression.None;
+		this.chunkSize = 256;
+		this.properties = new LinkedHashMap<>();
+	}
+
+	public TerraFileWriter sampleFormat(final TerraSampleFormat sampleFormat) throws IllegalArgumentException {
+		if (sampleFormat == null) {
+			throw new IllegalArgumentException("A terra file sample format cannot be null.");
+		}
+
+		this.sampleFormat = sampleFormat;
+		return this;
+	}
+
+	public TerraFileWriter compression(final TerraCompression compression) throws IllegalArgumentException {
+		if (compression == null) {
+			throw new IllegalArgumentException("A terra file compression cannot be null.");
+		}
+
+		this.compression = compression;
+		return this;
+	}
+
+	/**
+	 * Sets the side length of the square chunks the map is split into.
+	 * Smaller chunks make reading small regions cheaper, while larger chunks compress better and keep the index smaller.
+	 *
+	 * @param chunkSize The non-zero integer side length of each chunk, which must keep a chunk within 2<sup>30</sup> bytes.
+	 * @return The {@link TerraFileWriter} object with the desired chunk size.
+	 * @throws IllegalArgumentException if the given chunk size is outside of the valid range.
+	 * @since 1.1
+	 */
+	public TerraFileWriter chunkSize(final int chunkSize) throws IllegalArgumentException {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("A terra file chunk size must be a positive, non-zero value. " + chunkSize + " is too small.");
+		} else if (chunkSize > 16384) {
+			throw new IllegalArgumentException("A terra file chunk size must be at most 16384. " + chunkSize + " is too large.");
+		}
+
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Adds a custom metadata property that is written alongside the generator parameters recorded for every map.
+	 *
+	 * @param key The non-empty {@link String} key of the property.
+	 * @param value The {@link String} value of the property.
+	 * @return The {@link TerraFileWriter} object with the desired property.
+	 * @throws IllegalArgumentException if the given key is null or empty, the given value is null, or either is too long.
+	 * @since 1.1
+	 */
+	public TerraFileWriter property(final String key, final String value) throws IllegalArgumentException {
+		if (key == null || key.isEmpty()) {
+			throw new IllegalArgumentException("A terra file property key cannot be null or empty.");
+		} else if (value == null) {
+			throw new IllegalArgumentException("A terra file property value cannot be null.");
+		} else if (key.getBytes(StandardCharsets.UTF_8).length > MAX_PROPERTY_BYTES || value.getBytes(StandardCharsets.UTF_8).length > MAX_PROPERTY_BYTES) {
+			throw new IllegalArgumentException("A terra file property key and value must each fit within " + MAX_PROPERTY_BYTES + " bytes.");
+		}
+
+		this.properties.put(key, value);
+		return this;
+	}
+
+	/**
+	 * Writes the given {@link Noise} object to a new .terra file at the given path, replacing any existing file.
+	 *
+	 * @param noise The {@link Noise} object being written.
+	 * @param path The {@link Path} of the file being written.
+	 * @throws IllegalArgumentException if the given {@link Noise} object or path is null.
+	 * @throws IOException if the file cannot be written.
+	 * @since 1.1
+	 */
+	public void write(final Noise noise, final Path path) throws IllegalArgumentException, IOException {
+		if (noise == null) {
+			throw new IllegalArgumentException("A terra file noise map cannot be null.");
+		} else if (path == null) {
+			throw new IllegalArgumentException("A terra file path cannot be null.");
+		}
+
+		Map<String, String> properties = describe(noise);
+		properties.putAll(this.properties);
+
+		int height = noise.getHeight();
+		int width = noise.getWidth();
+		int chunksDown = (height + this.chunkSize - 1) / this.chunkSize;
+		int chunksAcross = (width + this.chunkSize - 1) / this.chunkSize;
+		ByteBuffer index = ByteBuffer.allocate(Math.multiplyExact(Math.multiplyExact(chunksDown, chunksAcross), TerraFileLayout.INDEX_ENTRY_BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			writeFully(channel, encodeHeader(noise, properties));
+
+			int maxChunkBytes = this.chunkSize * this.chunkSize * this.sampleFormat.getBytes();
+			ByteBuffer raw = ByteBuffer.allocate(maxChunkBytes).order(ByteOrder.LITTLE_ENDIAN);
+			ByteBuffer compressed = ByteBuffer.allocate(maxChunkBytes);
+			Deflater deflater = (this.compression == TerraCompression.Deflate) ? new Deflater() : null;
+			double[] band = new double[Math.multiplyExact(this.chunkSize, width)];
+			double[] row = new double[width];
+
+			try {
+				for (int chunkY = 0; chunkY < chunksDown; chunkY++) {
+					int startY = chunkY * this.chunkSize;
+					int bandHeight = Math.min(this.chunkSize, height - startY);
+
+					for (int y = 0; y < bandHeight; y++) {
+						noise.getNoiseRow(startY + y, row);
+						System.arraycopy(row, 0, band, y * width, width);
+					}
+
+					for (int chunkX = 0; chunkX < chunksAcross; chunkX++) {
+						int startX = chunkX * this.chunkSize;
+						int chunkWidth = Math.min(this.chunkSize, width - startX);
+
+						raw.clear();
+
+						for (int y = 0; y < bandHeight; y++) {
+							for (int x = 0, offset = y * width + startX; x < chunkWidth; x++) {
+								this.sampleFormat.encode(raw, band[offset + x]);
+							}
+						}
+
+						raw.flip();
+
+						ByteBuffer stored = raw;
+						int flags = 0;
+
+						if (deflater != null && deflate(deflater, raw, compressed)) {
+							stored = compressed;
+							flags |= TerraFileLayout.FLAG_COMPRESSED;
+						}
+
+						index.putLong(channel.position()).putInt(stored.remaining()).put((byte) flags).put((byte) 0).putShort((short) 0);
+						writeFully(channel, stored);
+					}
+				}
+			} finally {
+				if (deflater != null) {
+					deflater.end();
+				}
+			}
+
+			long indexOffset = channel.position();
+			index.flip();
+			writeFully(channel, index);
+
+			ByteBuffer indexPosition = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(indexOffset);
+			indexPosition.flip();
+			channel.position(TerraFileLayout.INDEX_OFFSET_POSITION);
+			writeFully(channel, indexPosition);
+		}
+	}
+
+	/**
+	 * Records the generator type and parameters of the given {@link Noise} object as metadata properties.
+	 */
+	private Map<String, String> describe(final Noise noise) {
+		Map<String, String> properties = new LinkedHashMap<>();
+
+		if (noise instanceof PerlinNoise) {
+			PerlinNoise perlinNoise = (PerlinNoise) noise;
+			properties.put("generator", "perlin");
+			properties.put("frequency", String.valueOf(perlinNoise.getFrequency()));
+			properties.put("octaves", String.valueOf(perlinNoise.getOctaves()));
+			properties.put("persistence", String.valueOf(perlinNoise.getPersistence()));
+			properties.put("lacunarity", String.valueOf(perlinNoise.getLacunarity()));
+		} else if (noise instanceof SimplexNoise) {
+			SimplexNoise simplexNoise = (SimplexNoise) noise;
+			properties.put("generator", "simplex");
+			properties.put("frequency", String.valueOf(simplexNoise.getFrequency()));
+			properties.put("octaves", String.valueOf(simplexNoise.getOctaves()));
+			properties.put("persistence", String.valueOf(simplexNoise.getPersistence()));
+			properties.put("lacunarity", String.valueOf(simplexNoise.getLacunarity()));
+		} else if (noise instanceof VoronoiNoise) {
+			VoronoiNoise voronoiNoise = (VoronoiNoise) noise;
+			properties.put("generator", "voronoi");
+			properties.put("frequency", String.valueOf(voronoiNoise.getFrequency()));
+			properties.put("distanceFormula", voronoiNoise.getDistanceFormula().name());
+			properties.put("minkowskiExponent", String.valueOf(voronoiNoise.getMinkowskiExponent()));
+			properties.put("channel", voronoiNoise.getChannel().name());
+		} else if (noise instanceof WhiteNoise) {
+			properties.put("generator", "white");
+		} else {
+			properties.put("generator", "noise");
+		}
+
+		properties.put("noiseMask", String.valueOf(noise.getNoiseMask().getIntensity()));
+
+		return properties;
+	}
+
+	private ByteBuffer encodeHeader(final Noise noise, final Map<String, String> properties) {
+		int length = TerraFileLayout.FIXED_HEADER_BYTES;
+
+		for (Map.Entry<String, String> property : properties.entrySet()) {
+			length += 2 * Short.BYTES + property.getKey().getBytes(StandardCharsets.UTF_8).length + property.getValue().getBytes(StandardCharsets.UTF_8).length;
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		header.put(TerraFileLayout.MAGIC)
+				.putInt(TerraFileLayout.VERSION)
+				.putInt(noise.getHeight())
+				.putInt(noise.getWidth())
+				.putInt(this.chunkSize)
+				.put((byte) this.sampleFormat.getCode())
+				.put((byte) this.compression.getCode())
+				.putShort((short) properties.size())
+				.putLong(noise.getSeed())
+				.putLong(0);
+
+		for (Map.Entry<String, String> property : properties.entrySet()) {
+			putString(header, property.getKey());
+			putString(header, property.getValue());
+		}
+
+		header.flip();
+		return header;
+	}
+
+	private void putString(final ByteBuffer buffer, final String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		buffer.putShort((short) bytes.length).put(bytes);
+	}
+
+	/**
+	 * Compresses the given raw chunk into the given buffer, returning false if the compressed chunk would not be smaller than the raw chunk.
+	 */
+	private boolean deflate(final Deflater deflater, final ByteBuffer raw, final ByteBuffer compressed) {
+		deflater.reset();
+		deflater.setInput(raw.duplicate());
+		deflater.finish();
+
+		compressed.clear();
+		compressed.limit(raw.remaining() - 1);
+
+		while (!deflater.finished()) {
+			if (!compressed.hasRemaining()) {
+				return false;
+			}
+
+			deflater.deflate(compressed);
+		}
+
+		compressed.flip();
+		return true;
+	}
+
+	private void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package me.christopherwmm.terra.noise.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The accepted encodings of the individual noise values stored within a .terra file.
+ * Every encoding trades precision for size, and all of them keep far more precision than the 8-bit channels of a noise image.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public enum TerraSampleFormat {
+	/** IEEE 754 single precision floating point values, four bytes per value. */
+	Float32(1, Float.BYTES),
+
+	/** IEEE 754 half precision floating point values, two bytes per value, with roughly three decimal digits of precision. */
+	Float16(2, Short.BYTES),
+
+	/** Unsigned 16-bit fixed point values spanning the interval <b>[0.0 - 1.0]</b> in 65535 even steps, two bytes per value. */
+	UInt16(3, Short.BYTES);
+
+	/** The largest value of an unsigned 16-bit integer. */
+	private static final int UINT16_MAX = 0xFFFF;
+
+	/** The identifier of this {@link TerraSampleFormat} within a .terra file header. */
+	private final int code;
+
+	/** The number of bytes used by a single encoded value. */
+	private final int bytes;
+
+	private TerraSampleFormat(final int code, final int bytes) {
+		this.code = code;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Returns the number of bytes used by a single value encoded with this {@link TerraSampleFormat}.
+	 * 
+	 * @return The non-zero integer number of bytes per value.
+	 * @since 1.1
+	 */
+	public int getBytes() {
+		return this.bytes;
+	}
+
+	int getCode() {
+		return this.code;
+	}
+
+	static TerraSampleFormat fromCode(final int code) {
+		for (TerraSampleFormat format : values()) {
+			if (format.code == code) {
+				return format;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Encodes the given value at the current position of the given buffer, advancing the position.
+	 */
+	void encode(final ByteBuffer buffer, final double value) {
+		switch (this) {
+			case Float32:
+				buffer.putFloat((float) value);
+				break;
+			case Float16:
+				buffer.putShort(toHalf((float) value));
+				break;
+			case UInt16:
+				buffer.putShort((short) Math.round(Math.max(0, Math.min(1, value)) * UINT16_MAX));
+				break;
+			default:
+				throw new IllegalStateException("Unsupported sample format: " + this);
+		}
+	}
+
+	/**
+	 * Decodes the value at the given absolute byte index of the given buffer without changing its position.
+	 */
+	double decode(final ByteBuffer buffer, final int index) {
+		switch (this) {
+			case Float32:
+				return buffer.getFloat(index);
+			case Float16:
+				return fromHalf(buffer.getShort(index));
+			case UInt16:
+				return (buffer.getShort(index) & UINT16_MAX) / (double) UINT16_MAX;
+			default:
+				throw new IllegalStateException("Unsupported sample format: " + this);
+		}
+	}
+
+	/**
+	 * Converts the given single precision value into the bits of the nearest half precision value, rounding ties to even.
+	 */
+	static short toHalf(final float value) {
+		int bits = Float.floatToRawIntBits(value);
+		int sign = (bits >>> 16) & 0x8000;
+		int floatExponent = (bits >>> 23) & 0xFF;
+		int mantissa = bits & 0x7FFFFF;
+
+		if (floatExponent == 0xFF) {
+			return (short) (sign | 0x7C00 | ((mantissa != 0) ? 0x200 : 0));
+		}
+
+		int exponent = floatExponent - 127 + 15;
+
+		if (exponent >= 0x1F) {
+			return (short) (sign | 0x7C00);
+		} else if (exponent <= 0) {
+			if (exponent < -10) {
+				return (short) sign;
+			}
+
+			mantissa |= 0x800000;
+
+			int shift = 14 - exponent;
+			int half = mantissa >> shift;
+			int remainder = mantissa & ((1 << shift) - 1);
+			int halfway = 1 << (shift - 1);
+
+			if (remainder > halfway || (remainder == halfway && (half & 1) != 0)) {
+				half++;
+			}
+
+			return (short) (sign | half);
+		}
+
+		int half = (exponent << 10) | (mantissa >> 13);
+		int remainder = mantissa & 0x1FFF;
+
+		// A carry out of the mantissa correctly rounds up into the next exponent, or into infinity.
+		if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0)) {
+			half++;
+		}
+
+		return (short) (sign | half);
+	}
+
+	/**
+	 * Converts the given half precision bits into the equal single precision value.
+	 */
+	static float fromHalf(final short half) {
+		int bits = half & 0xFFFF;
+		int sign = (bits & 0x8000) << 16;
+		int exponent = (bits >>> 10) & 0x1F;
+		int mantissa = bits & 0x3FF;
+
+		if (exponent == 0x1F) {
+			return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+		} else if (exponent == 0) {
+			float subnormal = mantissa * 0x1p-24f;
+			return (sign != 0) ? -subnormal : subnormal;
+		}
+
+		return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+	}
+}
@@ -0,0 +1,78 @@
+package me.christopherwmm.terra.noise.mask;
+
+/**
+ * The {@link MaskFunction} of the masks built by a {@link NoiseMaskGenerator}, which fades noise out towards the edges of the map.
+ * Every mask with the same height, width and intensity is identical, so materialized masks are shared through a {@link NoiseMaskCache}.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class EdgeMaskFunction implements MaskFunction {
+	/** The shared cache of materialized edge masks. */
+	private static final NoiseMaskCache MATERIALIZED_MASKS = new NoiseMaskCache(1 << 24);
+
+	/** The non-zero integer height of the mask. */
+	private final int height;
+
+	/** The non-zero integer width of the mask. */
+	private final int width;
+
+	/** The double intensity of the mask within the interval <b>[0.0 - 1.0]</b>. */
+	private final double intensity;
+
+	/** The distance from the nearest edge within which noise is completely masked. */
+	private final double minimumDistance;
+
+	/** The distance from the nearest edge beyond which noise is not masked at all. */
+	private final double maximumDistance;
+
+	/**
+	 * Constructs a new {@link EdgeMaskFunction} with the given values.
+	 * 
+	 * @param height The non-zero integer height of the mask.
+	 * @param width The non-zero integer width of the mask.
+	 * @param intensity The double intensity of the mask within the interval <b>[0.0 - 1.0]</b>.
+	 * @since 1.1
+	 */
+	EdgeMaskFunction(final int height, final int width, final double intensity) {
+		this.height = height;
+		this.width = width;
+		this.intensity = intensity;
+		this.minimumDistance = (((height + width) / 2) / 100) / (intensity * 100);
+		this.maximumDistance = (((height + width) / 2) / 100) * (intensity * 100);
+	}
+
+	@Override
+	public double calculate(final int x, final int y) {
+		if (this.intensity > .99) {
+			return 1;
+		} else if (this.intensity <= 0) {
+			return 0;
+		}
+
+		int distanceToNearestEdge = Math.min(Math.min(x, y), Math.min(Math.min(this.width, this.height), Math.min(this.width - x, this.height - y)));
+
+		if (distanceToNearestEdge <= this.minimumDistance) {
+			return 1;
+		} else if (distanceToNearestEdge >= this.maximumDistance) {
+			return 0;
+		}
+
+		double fadeFactor = (distanceToNearestEdge - this.minimumDistance) / (this.maximumDistance - this.minimumDistance);
+
+		return Math.abs(fade(fadeFactor) - 1);
+	}
+
+	/**
+	 * Returns the shared materialized mask of this {@link EdgeMaskFunction}, building it only if no mask with the same parameters is cached.
+	 * The returned array is shared and must not be modified.
+	 */
+	@Override
+	public double[] materialize(final int height, final int width) {
+		return MATERIALIZED_MASKS.get(height, width, this.intensity, () -> MaskFunction.super.materialize(height, width));
+	}
+
+	private double fade(final double value) {
+		return value * value * value * (value * (value * 6 - 15) + 10);
+	}
+}
@@ -0,0 +1,47 @@
+package me.christopherwmm.terra.noise.mask;
+
+import me.christopherwmm.terra.noise.NoiseStorage;
+
+/**
+ * The analytic definition of a {@link NoiseMask}, which can be sampled at any point without materializing the whole mask.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+@FunctionalInterface
+interface MaskFunction {
+	/**
+	 * Calculates the mask value at the given coordinates.
+	 * 
+	 * @param x The integer x coordinate of the mask value.
+	 * @param y The integer y coordinate of the mask value.
+	 * @return The mask value within the interval <b>[0.0 - 1.0]</b>.
+	 * @since 1.1
+	 */
+	public abstract double calculate(final int x, final int y);
+
+	/**
+	 * Builds the full row-major array of mask values covering the given dimensions, where the value at (x, y) is stored at index {@code y * width + x}.
+	 * 
+	 * @param height The non-zero integer height of the mask.
+	 * @param width The non-zero integer width of the mask.
+	 * @return The row-major double array of mask values.
+	 * @throws IllegalStateException if the mask holds more values than fit within a single array.
+	 * @since 1.1
+	 */
+	public default double[] materialize(final int height, final int width) throws IllegalStateException {
+		if ((long) height * width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalStateException("A " + width + "x" + height + " noise mask holds too many values for a single array. Read it one row at a time instead.");
+		}
+
+		double[] mask = new double[height * width];
+
+		for (int y = 0, index = 0; y < height; y++) {
+			for (int x = 0; x < width; x++, index++) {
+				mask[index] = calculate(x, y);
+			}
+		}
+
+		return mask;
+	}
+}
@@ -1,5 +1,9 @@
 package me.christopherwmm.terra.noise.mask;
+
+import java.util.Arrays;
+
 import me.christopherwmm.terra.gui.Image;
+import me.christopherwmm.terra.noise.NoiseStorage;
 
 /**
  * The immutable programmatic representation of a noise mask.
@@ -18,101 +22,74 @@ public class NoiseMask {
 	/** The double intensity of this {@link NoiseMask} object. */
 	private final double intensity;
 
-	/** The 2D double array containing the individual mask values of this {@link NoiseMask} object. */
-	private final double[][] maskArray;
+	/** The {@link MaskFunction} defining the individual mask values of this {@link NoiseMask} object, or null if this {@link NoiseMask} object is the identity mask. */
+	private final MaskFunction maskFunction;
+
+	/** The row-major double array containing the individual mask values of this {@link NoiseMask} object, or null until the mask is first materialized. */
+	private volatile double[] maskValues;
 
 	/**
-	 * Constructs a new {@link NoiseMask} object with the given values.
+	 * Constructs a new {@link NoiseMask} object whose values are calculated by the given {@link MaskFunction} on demand.
+	 * The full array of mask values is only materialized once it is requested as a whole.
 	 * 
 	 * @param height The non-zero integer height of this {@link NoiseMask} object.
 	 * @param width The non-zero integer width of this {@link NoiseMask} object.
 	 * @param intensity The double intensity of this {@link NoiseMask} object.
-	 * @param maskArray The 2D double array containing the individual mask values of this {@link NoiseMask} object.
+	 * @param maskFunction The {@link MaskFunction} defining the individual mask values of this {@link NoiseMask} object.
 	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
-	 * @since 1.0
+	 * @since 1.1
 	 */
-	NoiseMask(final int height, final int width, final double intensity, final double[][] maskArray) {
+	NoiseMask(final int height, final int width, final double intensity, final MaskFunction maskFunction) {
 		if (height < 1) {
 			throw new IllegalArgumentException("A noise mask height must be a positive, non-zero value. " + height + " is too small.");
 		} else if (width < 1) {
 			throw new IllegalArgumentException("A noise mask width must be a positive, non-zero value. " + width + " is too small.");
 		} else if (intensity < 0.0 || intensity > 1.0) {
 			throw new IllegalArgumentException("A noise mask intensity must be a positive value between zero and one. " + intensity + " is outside that interval.");
-		} else if (maskArray == null) {
-			throw new IllegalArgumentException("The given noise array cannot be null.");
-		} else if (maskArray.length == 0 || maskArray.length != height || maskArray[0].length == 0 || maskArray[0].length != width) {
-			throw new IllegalArgumentException("The dimensions of the provided noise array is invalid!");
+		} else if (maskFunction == null) {
+			throw new IllegalArgumentException("The given mask function cannot be null.");
 		}
 
 		this.height = height;
 		this.width = width;
 		this.intensity = intensity;
-		this.maskArray = maskArray;
-	}
-
-	/**
-	 * Constructs a new {@link NoiseMask} object that is a deep copy based on the given {@link NoiseMask} object.
-	 * 
-	 * @param noiseMask The {@link NoiseMask} object being copied.
-	 * @since 1.0
-	 */
-	NoiseMask(final NoiseMask noiseMask) {
-		this.height = noiseMask.getHeight();
-		this.width = noiseMask.getWidth();
-		this.intensity = noiseMask.getIntensity();
-		this.maskArray = this.copy2DArray(noiseMask.getMask());
+		this.maskFunction = maskFunction;
 	}
 
 	/**
-	 * Performs a deep copy on a each row of a 2D array using {@link System#arraycopy(Object, int, Object, int, int) System.arraycopy()}.
+	 * Constructs a new identity {@link NoiseMask} object that leaves every noise value unchanged without storing any mask values.
 	 * 
-	 * @param source The 2D array being copied into the given target.
-	 * @return The deep copy of the source values.
-	 * @since 1.0
+	 * @param height The non-zero integer height of this {@link NoiseMask} object.
+	 * @param width The non-zero integer width of this {@link NoiseMask} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
 	 */
-	private double[][] copy2DArray(final double[][] source) {
-		final double[][] target = new double[source.length][source[0].length];
-
-		for (int x = 0; x < source.length; x++) {
-			System.arraycopy(source[x], 0, target[x], 0, source[x].length);
+	NoiseMask(final int height, final int width) {
+		if (height < 1) {
+			throw new IllegalArgumentException("A noise mask height must be a positive, non-zero value. " + height + " is too small.");
+		} else if (width < 1) {
+			throw new IllegalArgumentException("A noise mask width must be a positive, non-zero value. " + width + " is too small.");
 		}
 
-		return target;
-	}
-
-	/**
-	 * Converts the given {@link NoiseMask} value into its corresponding grayscale ARGB color.
-	 * 
-	 * @param maskValue The {@link NoiseMask} value within the interval within the interval <b>[0.0 - 1.0]</b>.
-	 * @return The grayscale integer ARGB color corresponding to the given {@link NoiseMask} value.
-	 * @since 1.0
-	 */
-	private int getGrayscaleMaskColor(final double maskValue) {
-		int blue = (int)(maskValue * 0xFF);
-		int green = blue * 0x100;
-		int red = blue * 0x10000;
-		int alpha = 0xFF000000;
-
-		return alpha + red + green + blue;
+		this.height = height;
+		this.width = width;
+		this.intensity = 0;
+		this.maskFunction = null;
 	}
 
 	/**
-	 * Generates the {@link BufferedImage} visual representation of this {@link NoiseMask} object. 
+	 * Constructs a new {@link NoiseMask} object that is a copy based on the given {@link NoiseMask} object.
+	 * The immutable {@link MaskFunction} and any materialized mask values, which are never modified, are shared, so the copy takes constant time yet produces identical values.
 	 * 
-	 * @param mask The 2D double array containing the individual mask values of this {@link NoiseMask}.
-	 * @return The grayscale {@link BufferedImage} visual representation of the given 2D double array.
+	 * @param noiseMask The {@link NoiseMask} object being copied.
 	 * @since 1.0
 	 */
-	private Image generateMaskImage(final double[][] mask) {
-		Image maskImage = new Image(this.getWidth(), this.getHeight(), Image.TYPE_INT_ARGB);
-
-		for (int x = 0; x < this.width; x++) {
-			for (int y = 0; y < this.height; y++) {
-				maskImage.setRGB(x, y, getGrayscaleMaskColor(mask[y][x]));
-			}
-		}
-
-		return maskImage;
+	NoiseMask(final NoiseMask noiseMask) {
+		this.height = noiseMask.getHeight();
+		this.width = noiseMask.getWidth();
+		this.intensity = noiseMask.getIntensity();
+		this.maskFunction = noiseMask.maskFunction;
+		this.maskValues = noiseMask.maskValues;
 	}
 
 	/** 
@@ -146,15 +123,169 @@ public class NoiseMask {
 		return this.intensity;
 	}
 
+	/**
+	 * Returns whether this {@link NoiseMask} object is the identity mask, which leaves every noise value unchanged and stores no mask values.
+	 * 
+	 * @return Whether this {@link NoiseMask} object is the identity mask.
+	 * @since 1.1
+	 */
+	public boolean isIdentity() {
+		return this.maskFunction == null;
+	}
+
+	/**
+	 * Returns the individual mask value at the given coordinates without materializing the whole mask.
+	 * 
+	 * @param x The integer x coordinate of the mask value.
+	 * @param y The integer y coordinate of the mask value.
+	 * @return The double mask value within the interval <b>[0.0 - 1.0]</b>.
+	 * @throws IllegalArgumentException if the given coordinates are outside of this {@link NoiseMask} object.
+	 * @since 1.1
+	 */
+	public double getMaskValue(final int x, final int y) throws IllegalArgumentException {
+		if (x < 0 || x >= this.width || y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise mask value must be within the bounds of the mask. (" + x + ", " + y + ") is outside of them.");
+		} else if (this.isIdentity()) {
+			return 0;
+		}
+
+		double[] maskValues = this.maskValues;
+		return (maskValues != null) ? maskValues[y * this.width + x] : this.maskFunction.calculate(x, y);
+	}
+
+	/**
+	 * Fills the given row with the mask values of the given row without materializing the whole mask.
+	 * 
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array, at least as long as the width, that receives the mask values.
+	 * @throws IllegalArgumentException if the given row is outside of this {@link NoiseMask} object or too short.
+	 * @since 1.1
+	 */
+	public void getMaskRow(final int y, final double[] row) throws IllegalArgumentException {
+		if (y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise mask row must be within the height of the mask. " + y + " is outside that interval.");
+		} else if (row == null || row.length < this.width) {
+			throw new IllegalArgumentException("A noise mask row must be at least as long as the width of the mask.");
+		} else if (this.isIdentity()) {
+			Arrays.fill(row, 0, this.width, 0);
+			return;
+		}
+
+		double[] maskValues = this.maskValues;
+
+		if (maskValues != null) {
+			System.arraycopy(maskValues, y * this.width, row, 0, this.width);
+			return;
+		}
+
+		for (int x = 0; x < this.width; x++) {
+			row[x] = this.maskFunction.calculate(x, y);
+		}
+	}
+
+	/**
+	 * Subtracts the mask values of the given row from the given noise values in place, clamping the results at zero.
+	 * Mask values are sampled as the row is processed, so generators can fuse masking into their final pass without materializing the mask.
+	 * 
+	 * @param y The integer y coordinate of the row.
+	 * @param row The double array of noise values being masked, indexed by x coordinate.
+	 * @param startX The first x coordinate being masked.
+	 * @param endX The x coordinate after the last x coordinate being masked.
+	 * @throws IllegalArgumentException if the given range is outside of this {@link NoiseMask} object or the given row.
+	 * @since 1.1
+	 */
+	public void applyToRow(final int y, final double[] row, final int startX, final int endX) throws IllegalArgumentException {
+		applyToRow(y, row, 0, startX, endX);
+	}
+
+	/**
+	 * Subtracts the mask values of the given row from the noise values of a row stored within a larger array, such as a row-major map, in place, clamping the results at zero.
+	 * 
+	 * @param y The integer y coordinate of the row.
+	 * @param values The double array containing the noise values being masked, where the value at x is stored at index {@code offset + x}.
+	 * @param offset The index of the value at the x coordinate zero within the given array.
+	 * @param startX The first x coordinate being masked.
+	 * @param endX The x coordinate after the last x coordinate being masked.
+	 * @throws IllegalArgumentException if the given range is outside of this {@link NoiseMask} object or the given array.
+	 * @since 1.1
+	 */
+	public void applyToRow(final int y, final double[] values, final int offset, final int startX, final int endX) throws IllegalArgumentException {
+		if (y < 0 || y >= this.height) {
+			throw new IllegalArgumentException("A noise mask row must be within the height of the mask. " + y + " is outside that interval.");
+		} else if (values == null || offset < 0 || startX < 0 || startX > endX || endX > this.width || (long) offset + endX > values.length) {
+			throw new IllegalArgumentException("A noise mask row range must be within the width of the mask and the given row.");
+		} else if (this.isIdentity()) {
+			return;
+		}
+
+		double[] maskValues = this.maskValues;
+
+		if (maskValues != null) {
+			int maskOffset = y * this.width;
+
+			for (int x = startX; x < endX; x++) {
+				values[offset + x] = Math.max(0, values[offset + x] - maskValues[maskOffset + x]);
+			}
+		} else {
+			for (int x = startX; x < endX; x++) {
+				values[offset + x] = Math.max(0, values[offset + x] - this.maskFunction.calculate(x, y));
+			}
+		}
+	}
+
 	/**
 	 * Returns a 2D array containing the individual mask values of this {@link NoiseMask} object. 
 	 * Values within the array are within the interval <b>[0.0 - 1.0]</b> where 1.0 indicates the corresponding value should be completely masked and 0.0 indicates the value should not be masked at all.
+	 * Mask values are stored in a single row-major array, so this compatibility view is a newly allocated copy; {@link #getMaskRow(int, double[])} and {@link #getMaskValues()} avoid the per-row allocations.
 	 * 
 	 * @return A 2D double array containing the individual mask values of this {@link NoiseMask} object.
 	 * @since 1.0
 	 */
 	public double[][] getMask() {
-		return this.maskArray;
+		double[][] mask = new double[this.height][this.width];
+
+		if (this.isIdentity()) {
+			return mask;
+		}
+
+		double[] maskValues = this.materialize();
+
+		for (int y = 0; y < this.height; y++) {
+			System.arraycopy(maskValues, y * this.width, mask[y], 0, this.width);
+		}
+
+		return mask;
+	}
+
+	/**
+	 * Returns a row-major array containing the individual mask values of this {@link NoiseMask} object, where the value at (x, y) is stored at index {@code y * getWidth() + x}.
+	 * Values within the array are within the interval <b>[0.0 - 1.0]</b>.
+	 * 
+	 * @return A newly allocated row-major double array containing the individual mask values of this {@link NoiseMask} object.
+	 * @throws IllegalStateException if this {@link NoiseMask} object holds more values than fit within a single array.
+	 * @since 1.1
+	 */
+	public double[] getMaskValues() throws IllegalStateException {
+		if ((long) this.height * this.width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalStateException("A " + this.width + "x" + this.height + " noise mask holds too many values for a single array. Read it one row at a time instead.");
+		}
+
+		return this.isIdentity() ? new double[this.height * this.width] : this.materialize().clone();
+	}
+
+	/**
+	 * Returns the materialized mask values of this non-identity {@link NoiseMask} object, materializing them on the first call.
+	 * Masks generated with the same dimensions and intensity may share a single cached array, so the returned array must not be modified.
+	 */
+	private double[] materialize() {
+		double[] maskValues = this.maskValues;
+
+		if (maskValues == null) {
+			maskValues = this.maskFunction.materialize(this.height, this.width);
+			this.maskValues = maskValues;
+		}
+
+		return maskValues;
 	}
 
 	/**
@@ -164,13 +295,47 @@ public class NoiseMask {
 	 * @since 1.0
 	 */
 	public Image getMaskImage() {
-		return this.generateMaskImage(this.maskArray);
+		return getMaskImage(Image.TYPE_INT_ARGB);
+	}
+
+	/**
+	 * Returns a grayscale visual representation of this {@link NoiseMask} object in the given color space.
+	 * {@link Image#TYPE_BYTE_GRAY} and {@link Image#TYPE_USHORT_GRAY} images take one or two bytes per pixel rather than the four of {@link Image#TYPE_INT_ARGB}.
+	 * 
+	 * @param imageType The {@link Image#TYPE_INT_ARGB}, {@link Image#TYPE_BYTE_GRAY} or {@link Image#TYPE_USHORT_GRAY} integer color space of the {@link Image}.
+	 * @return A {@link Image} visual representation of this {@link NoiseMask} object.
+	 * @throws IllegalArgumentException if the given image type is not supported.
+	 * @since 1.1
+	 */
+	public Image getMaskImage(final int imageType) throws IllegalArgumentException {
+		return getMaskImage(imageType, false);
+	}
+
+	/**
+	 * Returns a grayscale visual representation of this {@link NoiseMask} object in the given color space, optionally converting bands of rows in parallel.
+	 * An identity {@link NoiseMask} is drawn as black without materializing its values.
+	 * 
+	 * @param imageType The {@link Image#TYPE_INT_ARGB}, {@link Image#TYPE_BYTE_GRAY} or {@link Image#TYPE_USHORT_GRAY} integer color space of the {@link Image}.
+	 * @param parallel Whether the rows should be converted in parallel.
+	 * @return A {@link Image} visual representation of this {@link NoiseMask} object.
+	 * @throws IllegalArgumentException if the given image type is not supported.
+	 * @since 1.1
+	 */
+	public Image getMaskImage(final int imageType, final boolean parallel) throws IllegalArgumentException {
+		if (this.isIdentity()) {
+			return Image.grayscale(this.width, this.height, imageType, (y, row) -> Arrays.fill(row, 0), parallel);
+		}
+
+		double[] mask = this.materialize();
+
+		return Image.grayscale(this.width, this.height, imageType, (y, row) -> System.arraycopy(mask, y * this.width, row, 0, this.width), parallel);
 	}
 
 	/**
-	 * Returns a new {@link NoiseMask} object that is a deep copy of this {@link NoiseMask} object.
+	 * Returns a new {@link NoiseMask} object that is a copy of this {@link NoiseMask} object, sharing its immutable values in constant time.
+	 * {@link NoiseMask} objects are immutable, so a copy is only needed where a distinct instance is required.
 	 * 
-	 * @return A new {@link NoiseMask} object that is a deep copy of this {@link NoiseMask} object.
+	 * @return A new {@link NoiseMask} object that is a copy of this {@link NoiseMask} object.
 	 * @since 1.0
 	 */
 	public NoiseMask clone() {
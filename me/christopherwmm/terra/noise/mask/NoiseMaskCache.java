@@ -0,0 +1,114 @@
+package me.christopherwmm.terra.noise.mask;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe, least recently used cache of materialized mask arrays keyed by their height, width and intensity.
+ * The cache is bounded by the total number of cached mask values rather than the number of masks, since a single large mask can outweigh many small ones.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class NoiseMaskCache {
+	/** The maximum total number of mask values held by this {@link NoiseMaskCache}. */
+	private final long capacity;
+
+	/** The access-ordered map of mask parameters to their materialized masks. */
+	private final Map<MaskKey, double[]> masks;
+
+	/** The total number of mask values currently held by this {@link NoiseMaskCache}. */
+	private long size;
+
+	/**
+	 * Constructs a new {@link NoiseMaskCache} that holds at most the given total number of mask values.
+	 * 
+	 * @param capacity The non-zero maximum total number of mask values.
+	 * @throws IllegalArgumentException if the given capacity is outside of the valid range.
+	 * @since 1.1
+	 */
+	NoiseMaskCache(final long capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("A noise mask cache capacity must be a positive, non-zero value. " + capacity + " is too small.");
+		}
+
+		this.capacity = capacity;
+		this.masks = new LinkedHashMap<MaskKey, double[]>(16, 0.75f, true);
+	}
+
+	/**
+	 * Returns the cached mask with the given parameters, building it with the given {@link Supplier} and caching it if it is not already present.
+	 * Masks larger than the whole cache are built but never cached.
+	 * The returned mask is shared and must not be modified.
+	 * 
+	 * @param height The non-zero integer height of the mask.
+	 * @param width The non-zero integer width of the mask.
+	 * @param intensity The double intensity of the mask.
+	 * @param builder The {@link Supplier} building the mask when it is not cached.
+	 * @return The materialized mask with the given parameters.
+	 * @since 1.1
+	 */
+	synchronized double[] get(final int height, final int width, final double intensity, final Supplier<double[]> builder) {
+		MaskKey key = new MaskKey(height, width, intensity);
+		double[] mask = this.masks.get(key);
+
+		if (mask != null) {
+			return mask;
+		}
+
+		mask = builder.get();
+		long maskSize = (long) height * width;
+
+		if (maskSize > this.capacity) {
+			return mask;
+		}
+
+		this.masks.put(key, mask);
+		this.size += maskSize;
+
+		Iterator<Map.Entry<MaskKey, double[]>> eldest = this.masks.entrySet().iterator();
+
+		while (this.size > this.capacity) {
+			MaskKey evicted = eldest.next().getKey();
+			eldest.remove();
+			this.size -= (long) evicted.height * evicted.width;
+		}
+
+		return mask;
+	}
+
+	/**
+	 * The immutable parameters identifying a materialized mask.
+	 */
+	private static final class MaskKey {
+		private final int height;
+		private final int width;
+		private final long intensityBits;
+
+		private MaskKey(final int height, final int width, final double intensity) {
+			this.height = height;
+			this.width = width;
+			this.intensityBits = Double.doubleToLongBits(intensity);
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (this == other) {
+				return true;
+			} else if (!(other instanceof MaskKey)) {
+				return false;
+			}
+
+			MaskKey key = (MaskKey) other;
+			return this.height == key.height && this.width == key.width && this.intensityBits == key.intensityBits;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.height, this.width, this.intensityBits);
+		}
+	}
+}
@@ -1,20 +1,16 @@
 package me.christopherwmm.terra.noise.mask;
 
-import java.util.Arrays;
-
 import me.christopherwmm.terra.Generator;
 
 public class NoiseMaskGenerator extends Generator<NoiseMask> {
 	private int height;
 	private int width;
 	private double intensity;
-	private double[][] mask;
 
 	public NoiseMaskGenerator() {
 		this.height = 512;
 		this.width = 512;
 		this.intensity = 0;
-		this.mask = new double[this.height][this.width];
 	}
 
 	public NoiseMaskGenerator height(final int height) throws IllegalArgumentException {
@@ -44,59 +40,18 @@ public class NoiseMaskGenerator extends Generator<NoiseMask> {
 		return this;
 	}
 
+	/**
+	 * Constructs a new {@link NoiseMask} whose values are calculated on demand, so no mask array is built until one is requested.
+	 * 
+	 * @return The {@link NoiseMask} object described by this {@link NoiseMaskGenerator} object.
+	 * @since 1.0
+	 */
 	@Override
 	public NoiseMask generate() {
-		this.mask = generateMaskArray();
-		return new NoiseMask(this.height, this.width, this.intensity, this.mask);
-	}
-
-	private double[][] generateMaskArray() {
-		double[][] mask = new double[height][width];
-
-		for (int y = 0; y < this.height; y++) {
-			for (int x = 0; x < this.width; x++) {
-				mask[y][x] = Math.abs(generateMaskValue(x, y) - 1);
-			}
+		if (this.intensity == 0) {
+			return new NoiseMask(this.height, this.width);
 		}
 
-		return mask;
-	}
-
-	private double generateMaskValue(final int x, final int y) {
-		double value = 1.0;
-		double minVal = (((this.height + this.width) / 2) / 100) / (intensity * 100);
-		double maxVal = (((this.height + this.width) / 2) / 100) * (intensity * 100);
-
-		if (intensity <= .99 && intensity > 0) {
-			double distanceToNearestEdge = calculateDistanceToNearestEdge(x, y);
-
-			if (distanceToNearestEdge <= minVal) {
-				return 0;
-			} else if (distanceToNearestEdge >= maxVal) {
-				return value;
-			} else {
-				double possibleMax = maxVal - minVal;
-				double currentValue = calculateDistanceToNearestEdge(x, y) - minVal;
-				double fadeFactor = currentValue / possibleMax;
-				double adjustedValue = fade(value * fadeFactor);
-
-				return adjustedValue;
-			}
-		} else if (intensity > .99) {
-			return 0;
-		} else {
-			return value;
-		}
-	}
-
-	private double fade(final double noiseValue) {
-		return noiseValue * noiseValue * noiseValue * (noiseValue * (noiseValue * 6 - 15) + 10); 
-	}
-
-	private int calculateDistanceToNearestEdge(final int x, final int y) {
-		int[] distances = new int[] {x, y, (this.width), (this.height), (this.width - x), (this.height - y)};
-		Arrays.sort(distances);
-
-		return distances[0];
+		return new NoiseMask(this.height, this.width, this.intensity, new EdgeMaskFunction(this.height, this.width, this.intensity));
 	}
 }
@@ -0,0 +1,300 @@
+package me.christopherwmm.terra.noise.mask;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+
+/**
+ * A shape described by its signed distance at every point, negative inside the shape, zero along its border and positive outside of it.
+ * Shapes are combined into new shapes without sampling anything, and are only evaluated once a {@link SignedDistanceMaskGenerator} samples the resulting {@link NoiseMask}.
+ * Coordinates are in pixels, where x runs along the width and y along the height of a map.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+@FunctionalInterface
+public interface SignedDistanceField {
+	/**
+	 * Calculates the signed distance from the given point to the border of this shape.
+	 *
+	 * @param x The double x coordinate of the point.
+	 * @param y The double y coordinate of the point.
+	 * @return The double signed distance, negative inside this shape and positive outside of it.
+	 * @since 1.1
+	 */
+	public abstract double distance(final double x, final double y);
+
+	/**
+	 * Returns the shape covering every point covered by this shape or the given shape.
+	 *
+	 * @param other The {@link SignedDistanceField} being combined with this shape.
+	 * @return The union of both shapes.
+	 * @throws IllegalArgumentException if the given shape is null.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField union(final SignedDistanceField other) throws IllegalArgumentException {
+		requireShape(other);
+		return (x, y) -> Math.min(this.distance(x, y), other.distance(x, y));
+	}
+
+	/**
+	 * Returns the shape covering only the points covered by both this shape and the given shape.
+	 *
+	 * @param other The {@link SignedDistanceField} being combined with this shape.
+	 * @return The intersection of both shapes.
+	 * @throws IllegalArgumentException if the given shape is null.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField intersection(final SignedDistanceField other) throws IllegalArgumentException {
+		requireShape(other);
+		return (x, y) -> Math.max(this.distance(x, y), other.distance(x, y));
+	}
+
+	/**
+	 * Returns the shape covering the points covered by this shape but not by the given shape.
+	 *
+	 * @param other The {@link SignedDistanceField} being cut out of this shape.
+	 * @return The difference of both shapes.
+	 * @throws IllegalArgumentException if the given shape is null.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField subtract(final SignedDistanceField other) throws IllegalArgumentException {
+		requireShape(other);
+		return (x, y) -> Math.max(this.distance(x, y), -other.distance(x, y));
+	}
+
+	/**
+	 * Returns the union of this shape and the given shape, blended with a polynomial smooth minimum so the two merge without a crease.
+	 *
+	 * @param other The {@link SignedDistanceField} being combined with this shape.
+	 * @param smoothness The positive distance, in pixels, over which both shapes blend together.
+	 * @return The smooth union of both shapes.
+	 * @throws IllegalArgumentException if the given shape is null or the smoothness is not positive.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField smoothUnion(final SignedDistanceField other, final double smoothness) throws IllegalArgumentException {
+		requireShape(other);
+		requireSmoothness(smoothness);
+		return (x, y) -> smoothMinimum(this.distance(x, y), other.distance(x, y), smoothness);
+	}
+
+	/**
+	 * Returns the intersection of this shape and the given shape, blended with a polynomial smooth maximum so the two meet without a crease.
+	 *
+	 * @param other The {@link SignedDistanceField} being combined with this shape.
+	 * @param smoothness The positive distance, in pixels, over which both shapes blend together.
+	 * @return The smooth intersection of both shapes.
+	 * @throws IllegalArgumentException if the given shape is null or the smoothness is not positive.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField smoothIntersection(final SignedDistanceField other, final double smoothness) throws IllegalArgumentException {
+		requireShape(other);
+		requireSmoothness(smoothness);
+		return (x, y) -> -smoothMinimum(-this.distance(x, y), -other.distance(x, y), smoothness);
+	}
+
+	/**
+	 * Returns this shape grown outwards by the given distance, rounding any corners, or shrunk inwards for negative distances.
+	 *
+	 * @param offset The double distance, in pixels, the border moves outwards.
+	 * @return The offset shape.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField offset(final double offset) {
+		return (x, y) -> this.distance(x, y) - offset;
+	}
+
+	/**
+	 * Returns the shape covering every point not covered by this shape.
+	 *
+	 * @return The complement of this shape.
+	 * @since 1.1
+	 */
+	public default SignedDistanceField invert() {
+		return (x, y) -> -this.distance(x, y);
+	}
+
+	/**
+	 * Returns a circle, the radial shape used for round islands and arenas.
+	 *
+	 * @param centerX The double x coordinate of the center.
+	 * @param centerY The double y coordinate of the center.
+	 * @param radius The positive double radius.
+	 * @return The circle {@link SignedDistanceField}.
+	 * @throws IllegalArgumentException if the given radius is not positive.
+	 * @since 1.1
+	 */
+	public static SignedDistanceField circle(final double centerX, final double centerY, final double radius) throws IllegalArgumentException {
+		if (!(radius > 0)) {
+			throw new IllegalArgumentException("A signed distance circle radius must be a positive, non-zero value. " + radius + " is too small.");
+		}
+
+		return (x, y) -> Math.hypot(x - centerX, y - centerY) - radius;
+	}
+
+	/**
+	 * Returns an axis-aligned rectangle.
+	 *
+	 * @param centerX The double x coordinate of the center.
+	 * @param centerY The double y coordinate of the center.
+	 * @param width The positive double width.
+	 * @param height The positive double height.
+	 * @return The rectangle {@link SignedDistanceField}.
+	 * @throws IllegalArgumentException if the given width or height is not positive.
+	 * @since 1.1
+	 */
+	public static SignedDistanceField rectangle(final double centerX, final double centerY, final double width, final double height) throws IllegalArgumentException {
+		if (!(width > 0)) {
+			throw new IllegalArgumentException("A signed distance rectangle width must be a positive, non-zero value. " + width + " is too small.");
+		} else if (!(height > 0)) {
+			throw new IllegalArgumentException("A signed distance rectangle height must be a positive, non-zero value. " + height + " is too small.");
+		}
+
+		double halfWidth = width / 2;
+		double halfHeight = height / 2;
+
+		return (x, y) -> {
+			double outsideX = Math.abs(x - centerX) - halfWidth;
+			double outsideY = Math.abs(y - centerY) - halfHeight;
+
+			return Math.hypot(Math.max(outsideX, 0), Math.max(outsideY, 0)) + Math.min(Math.max(outsideX, outsideY), 0);
+		};
+	}
+
+	/**
+	 * Returns a closed polygon through the given vertices, which may be concave.
+	 * Points are inside the polygon under the even-odd rule.
+	 *
+	 * @param vertices The {@link List} of at least three vertices, in order around the polygon.
+	 * @return The polygon {@link SignedDistanceField}.
+	 * @throws IllegalArgumentException if fewer than three vertices, or a null vertex, are given.
+	 * @since 1.1
+	 */
+	public static SignedDistanceField polygon(final List<? extends Point2D> vertices) throws IllegalArgumentException {
+		if (vertices == null || vertices.size() < 3) {
+			throw new IllegalArgumentException("A signed distance polygon must have at least three vertices.");
+		}
+
+		double[] verticesX = new double[vertices.size()];
+		double[] verticesY = new double[vertices.size()];
+		copyPoints(vertices, verticesX, verticesY);
+
+		return (x, y) -> {
+			double squaredDistance = Double.MAX_VALUE;
+			boolean inside = false;
+
+			for (int current = 0, previous = verticesX.length - 1; current < verticesX.length; previous = current++) {
+				squaredDistance = Math.min(squaredDistance, squaredSegmentDistance(x, y, verticesX[previous], verticesY[previous], verticesX[current], verticesY[current]));
+
+				if ((verticesY[current] > y) != (verticesY[previous] > y)
+						&& x < (verticesX[previous] - verticesX[current]) * (y - verticesY[current]) / (verticesY[previous] - verticesY[current]) + verticesX[current]) {
+					inside = !inside;
+				}
+			}
+
+			double distance = Math.sqrt(squaredDistance);
+			return inside ? -distance : distance;
+		};
+	}
+
+	/**
+	 * Returns a thick open curve following a Catmull-Rom spline through the given control points, such as a river or a ridge.
+	 *
+	 * @param controlPoints The {@link List} of at least two control points the curve passes through.
+	 * @param radius The positive double half-thickness of the curve.
+	 * @return The spline {@link SignedDistanceField}.
+	 * @throws IllegalArgumentException if fewer than two control points, or a null control point, are given, or if the radius is not positive.
+	 * @since 1.1
+	 */
+	public static SignedDistanceField spline(final List<? extends Point2D> controlPoints, final double radius) throws IllegalArgumentException {
+		if (controlPoints == null || controlPoints.size() < 2) {
+			throw new IllegalArgumentException("A signed distance spline must have at least two control points.");
+		} else if (!(radius > 0)) {
+			throw new IllegalArgumentException("A signed distance spline radius must be a positive, non-zero value. " + radius + " is too small.");
+		}
+
+		// Each span between two control points is approximated with this many straight segments.
+		int segmentsPerSpan = 16;
+		int count = controlPoints.size();
+		double[] controlX = new double[count];
+		double[] controlY = new double[count];
+		copyPoints(controlPoints, controlX, controlY);
+
+		double[] pathX = new double[(count - 1) * segmentsPerSpan + 1];
+		double[] pathY = new double[pathX.length];
+
+		for (int span = 0; span < count - 1; span++) {
+			int before = Math.max(span - 1, 0);
+			int after = Math.min(span + 2, count - 1);
+
+			for (int segment = 0; segment < segmentsPerSpan; segment++) {
+				double t = segment / (double) segmentsPerSpan;
+				int index = span * segmentsPerSpan + segment;
+
+				pathX[index] = catmullRom(controlX[before], controlX[span], controlX[span + 1], controlX[after], t);
+				pathY[index] = catmullRom(controlY[before], controlY[span], controlY[span + 1], controlY[after], t);
+			}
+		}
+
+		pathX[pathX.length - 1] = controlX[count - 1];
+		pathY[pathY.length - 1] = controlY[count - 1];
+
+		return (x, y) -> {
+			double squaredDistance = Double.MAX_VALUE;
+
+			for (int point = 1; point < pathX.length; point++) {
+				squaredDistance = Math.min(squaredDistance, squaredSegmentDistance(x, y, pathX[point - 1], pathY[point - 1], pathX[point], pathY[point]));
+			}
+
+			return Math.sqrt(squaredDistance) - radius;
+		};
+	}
+
+	private static void requireShape(final SignedDistanceField shape) throws IllegalArgumentException {
+		if (shape == null) {
+			throw new IllegalArgumentException("A signed distance field cannot be combined with a null shape.");
+		}
+	}
+
+	private static void requireSmoothness(final double smoothness) throws IllegalArgumentException {
+		if (!(smoothness > 0)) {
+			throw new IllegalArgumentException("A signed distance smoothness must be a positive, non-zero value. " + smoothness + " is too small.");
+		}
+	}
+
+	private static void copyPoints(final List<? extends Point2D> points, final double[] pointsX, final double[] pointsY) throws IllegalArgumentException {
+		for (int i = 0; i < pointsX.length; i++) {
+			Point2D point = points.get(i);
+
+			if (point == null) {
+				throw new IllegalArgumentException("A signed distance field point cannot be null.");
+			}
+
+			pointsX[i] = point.getX();
+			pointsY[i] = point.getY();
+		}
+	}
+
+	/**
+	 * Blends two distances with the polynomial smooth minimum, which equals the regular minimum once the distances differ by more than the smoothness.
+	 */
+	private static double smoothMinimum(final double first, final double second, final double smoothness) {
+		double blend = Math.max(0, Math.min(1, 0.5 + 0.5 * (second - first) / smoothness));
+		return second + (first - second) * blend - smoothness * blend * (1 - blend);
+	}
+
+	private static double squaredSegmentDistance(final double x, final double y, final double startX, final double startY, final double endX, final double endY) {
+		double segmentX = endX - startX;
+		double segmentY = endY - startY;
+		double lengthSquared = segmentX * segmentX + segmentY * segmentY;
+		double t = (lengthSquared > 0) ? Math.max(0, Math.min(1, ((x - startX) * segmentX + (y - startY) * segmentY) / lengthSquared)) : 0;
+
+		double differenceX = x - (startX + t * segmentX);
+		double differenceY = y - (startY + t * segmentY);
+
+		return differenceX * differenceX + differenceY * differenceY;
+	}
+
+	private static double catmullRom(final double before, final double start, final double end, final double after, final double t) {
+		return 0.5 * ((2 * start) + (end - before) * t + (2 * before - 5 * start + 4 * end - after) * t * t + (3 * start - before - 3 * end + after) * t * t * t);
+	}
+}
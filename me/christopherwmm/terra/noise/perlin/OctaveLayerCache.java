@@ -0,0 +1,103 @@
+package me.christopherwmm.terra.noise.perlin;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded, least recently used cache of the individual un-weighted octave layers generated by a {@link PerlinNoiseGenerator}.
+ * Layers are keyed by everything that determines their values, so changes to the persistence only re-weight cached layers and an additional octave only generates its own layer.
+ * A cache is owned by a single {@link PerlinNoiseGenerator} and is not thread-safe.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class OctaveLayerCache {
+	/** The access-ordered map of layer keys to their row-major double arrays of noise values. */
+	private final Map<LayerKey, double[]> layers;
+
+	/**
+	 * Constructs a new {@link OctaveLayerCache} that holds at most the given number of octave layers.
+	 * 
+	 * @param capacity The non-zero maximum number of octave layers held by this {@link OctaveLayerCache}.
+	 * @throws IllegalArgumentException if the given capacity is outside of the valid range.
+	 * @since 1.1
+	 */
+	OctaveLayerCache(final int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("An octave layer cache capacity must be a positive, non-zero value. " + capacity + " is too small.");
+		}
+
+		this.layers = new LinkedHashMap<LayerKey, double[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<LayerKey, double[]> eldest) {
+				return this.size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached octave layer with the given parameters, or null if it is not present.
+	 * 
+	 * @param seed The long seed of the octave layer.
+	 * @param height The non-zero integer height of the octave layer.
+	 * @param width The non-zero integer width of the octave layer.
+	 * @param frequency The double frequency of the octave layer.
+	 * @return The row-major double array of un-weighted noise values of the octave layer, or null if it is not present.
+	 * @since 1.1
+	 */
+	double[] get(final long seed, final int height, final int width, final double frequency) {
+		return this.layers.get(new LayerKey(seed, height, width, frequency));
+	}
+
+	/**
+	 * Caches the given octave layer under the given parameters, evicting the least recently used layer if the cache is full.
+	 * 
+	 * @param seed The long seed of the octave layer.
+	 * @param height The non-zero integer height of the octave layer.
+	 * @param width The non-zero integer width of the octave layer.
+	 * @param frequency The double frequency of the octave layer.
+	 * @param layer The row-major double array of un-weighted noise values of the octave layer.
+	 * @since 1.1
+	 */
+	void put(final long seed, final int height, final int width, final double frequency, final double[] layer) {
+		this.layers.put(new LayerKey(seed, height, width, frequency), layer);
+	}
+
+	/**
+	 * The immutable key identifying a single octave layer.
+	 * The frequency of an octave already reflects the initial frequency, lacunarity and octave index that produced it.
+	 */
+	private static final class LayerKey {
+		private final long seed;
+		private final int height;
+		private final int width;
+		private final long frequencyBits;
+
+		private LayerKey(final long seed, final int height, final int width, final double frequency) {
+			this.seed = seed;
+			this.height = height;
+			this.width = width;
+			this.frequencyBits = Double.doubleToLongBits(frequency);
+		}
+
+		@Override
+		public boolean equals(final Object object) {
+			if (this == object) {
+				return true;
+			} else if (!(object instanceof LayerKey)) {
+				return false;
+			}
+
+			LayerKey key = (LayerKey) object;
+			return this.seed == key.seed && this.height == key.height && this.width == key.width && this.frequencyBits == key.frequencyBits;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.seed, this.height, this.width, this.frequencyBits);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package me.christopherwmm.terra.noise.perlin;
 
 import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.NoiseStorage;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 
 /**
@@ -29,7 +30,7 @@ public class PerlinNoise extends Noise {
 	 * @param height The non-zero integer height of this {@link PerlinNoise} object.
 	 * @param width The non-zero integer width of this {@link PerlinNoise} object.
 	 * @param seed The long seed used to generate this {@link PerlinNoise} object.
-	 * @param noise The 2D double array containing the individual mask values of this {@link PerlinNoise} object.
+	 * @param noise The row-major double array containing the individual values of this {@link PerlinNoise} object, which is taken over without being copied.
 	 * @param noiseMask The {@link NoiseMask} being applied to this {@link PerlinNoise} object.
 	 * @param frequency The non-zero integer initial frequency of this {@link PerlinNoise} object.
 	 * @param octaves The non-zero integer number of octaves present in this {@link PerlinNoise} object.
@@ -38,9 +39,42 @@ public class PerlinNoise extends Noise {
 	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
 	 * @since 1.0
 	 */
-	PerlinNoise(final int height, final int width, final long seed, final double[][] noise, final NoiseMask noiseMask, final int frequency, final int octaves, final double persistence, final double lacunarity) {
+	PerlinNoise(final int height, final int width, final long seed, final double[] noise, final NoiseMask noiseMask, final int frequency, final int octaves, final double persistence, final double lacunarity) {
 		super(height, width, seed, noise, noiseMask);
 
+		checkParameters(frequency, octaves, persistence, lacunarity);
+
+		this.frequency = frequency;
+		this.octaves = octaves;
+		this.persistence = persistence;
+		this.lacunarity = lacunarity;
+	}
+
+	/**
+	 * Constructs a new {@link PerlinNoise} object whose values are held by the given {@link NoiseStorage}, which may live outside of the heap.
+	 * 
+	 * @param seed The long seed used to generate this {@link PerlinNoise} object.
+	 * @param noiseStorage The {@link NoiseStorage} containing the individual values of this {@link PerlinNoise} object.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link PerlinNoise} object.
+	 * @param frequency The non-zero integer initial frequency of this {@link PerlinNoise} object.
+	 * @param octaves The non-zero integer number of octaves present in this {@link PerlinNoise} object.
+	 * @param persistence The non-zero double persistence of this {@link PerlinNoise} object.
+	 * @param lacunarity The non-zero double lacunarity of this {@link PerlinNoise} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	PerlinNoise(final long seed, final NoiseStorage noiseStorage, final NoiseMask noiseMask, final int frequency, final int octaves, final double persistence, final double lacunarity) {
+		super(seed, noiseStorage, noiseMask);
+
+		checkParameters(frequency, octaves, persistence, lacunarity);
+
+		this.frequency = frequency;
+		this.octaves = octaves;
+		this.persistence = persistence;
+		this.lacunarity = lacunarity;
+	}
+
+	private static void checkParameters(final int frequency, final int octaves, final double persistence, final double lacunarity) throws IllegalArgumentException {
 		if (frequency < 1) {
 			throw new IllegalArgumentException("A perlin noise map initial frequency must be a positive, non-zero value. " + frequency + " is too small.");
 		} else if (octaves < 1) {
@@ -50,15 +84,10 @@ public class PerlinNoise extends Noise {
 		} else if (lacunarity < Double.MIN_VALUE) {
 			throw new IllegalArgumentException("A perlin noise lacunarity must be a positive, non-zero value. " + lacunarity + " is too small.");
 		}
-
-		this.frequency = frequency;
-		this.octaves = octaves;
-		this.persistence = persistence;
-		this.lacunarity = lacunarity;
 	}
 
 	/**
-	 * Constructs a new {@link PerlinNoise} object that is a deep copy based on the given {@link PerlinNoise} object.
+	 * Constructs a new {@link PerlinNoise} object that is a copy of the given {@link PerlinNoise} object, sharing its immutable values.
 	 * 
 	 * @param perlinNoise The {@link PerlinNoise} object being copied.
 	 * @since 1.0
@@ -114,9 +143,9 @@ public class PerlinNoise extends Noise {
 	
 
 	/**
-	 * Returns a new {@link PerlinNoise} object that is a deep copy of this {@link PerlinNoise} object.
+	 * Returns a new {@link PerlinNoise} object that is a copy of this {@link PerlinNoise} object, sharing its immutable values in constant time.
 	 * 
-	 * @return A new {@link PerlinNoise} object that is a deep copy of this {@link PerlinNoise} object.
+	 * @return A new {@link PerlinNoise} object that is a copy of this {@link PerlinNoise} object.
 	 * @since 1.0
 	 */
 	public PerlinNoise clone() {
@@ -1,8 +1,16 @@
 package me.christopherwmm.terra.noise.perlin;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import me.christopherwmm.terra.noise.NoiseGenerator;
+import me.christopherwmm.terra.noise.NoiseRowSink;
+import me.christopherwmm.terra.noise.NoiseStorage;
+import me.christopherwmm.terra.noise.PermutationTableCache;
+import me.christopherwmm.terra.noise.RowBands;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
+import me.christopherwmm.terra.noise.mask.SignedDistanceMaskGenerator;
 
 public class PerlinNoiseGenerator extends NoiseGenerator<PerlinNoise> {
 	private int height;
@@ -12,52 +20,35 @@ public class PerlinNoiseGenerator extends NoiseGenerator<PerlinNoise> {
 	private int octaves;
 	private double persistence;
 	private double lacunarity;
-	private double[][] noise;
-	private double noiseMaskIntensity;
+	private double[] noise;
 	private NoiseMask noiseMask;
+	private int[] permutationTable;
+	private boolean parallel;
+	private boolean vectorized;
+	private OctaveLayerCache octaveCache;
+	private double[][] octaveLayers;
+	private boolean[] missingOctaveLayers;
 
-	private double maxNoiseValue;
-	private double minNoiseValue;
-
-	private static final int PERMUTATION_TABLE[] = new int[512];
-	private static final int PERMUTATION_VALUES[] = {151,160,137,91,90,15,131,13,201,95,96,53,
-			194,233,7,225,140,36,103,30,69,142,8,99,37,240,21,10,23,190,6,148,247,120,
-			234,75,0,26,197,62,94,252,219,203,117,35,11,32,57,177,33,88,237,149,56,87,
-			174,20,125,136,171,168,68,175,74,165,71,134,139,48,27,166,77,146,158,231,
-			83,111,229,122,60,211,133,230,220,105,92,41,55,46,245,40,244,102,143,54,
-			65,25,63,161,1,216,80,73,209,76,132,187,208,89,18,169,200,196,135,130,116,
-			188,159,86,164,100,109,198,173,186,3,64,52,217,226,250,124,123,5,202,38,
-			147,118,126,255,82,85,212,207,206,59,227,47,16,58,17,182,189,28,42,223,
-			183,170,213,119,248,152,2,44,154,163,70,221,153,101,155,167,43,172,9,129,
-			22,39,253,19,98,108,110,79,113,224,232,178,185,112,104,218,246,97,228,251,
-			34,242,193,238,210,144,12,191,179,162,241,81,51,145,235,249,14,239,107,
-			49,192,214,31,181,199,106,157,184,84,204,176,115,121,50,45,127,4,150,254,
-			138,236,205,93,222,114,67,29,24,72,243,141,128,195,78,66,215,61,156,180};
-
-	static { 
-		for (int x = 0; x < PERMUTATION_TABLE.length; x++) {
-			PERMUTATION_TABLE[x] = PERMUTATION_VALUES[x % PERMUTATION_VALUES.length]; 
-		}
-	}
+	/** The bounded cache of seed-dependent permutation tables shared by every {@link PerlinNoiseGenerator}. */
+	private static final PermutationTableCache PERMUTATION_TABLES = new PermutationTableCache(64);
 
 	public PerlinNoiseGenerator() {
 		this.height = 512;
 		this.width = 512;
 		this.seed = 0;
+		this.permutationTable = PERMUTATION_TABLES.get(this.seed);
 		this.frequency = 1;
 		this.octaves = 1;
 		this.persistence = 1;
 		this.lacunarity = 1;
-		this.noise = new double[this.height][this.width];
-		this.noiseMaskIntensity = 0;
 		this.noiseMask = new NoiseMaskGenerator()
 				.height(this.height)
 				.width(this.width)
 				.intensity(0)
 				.generate();
-
-		this.maxNoiseValue = Double.MIN_VALUE;
-		this.minNoiseValue = Double.MAX_VALUE;
+		this.parallel = false;
+		this.vectorized = false;
+		this.octaveCache = null;
 	}
 
 	public PerlinNoiseGenerator height(final int height) throws IllegalArgumentException {
@@ -80,15 +71,26 @@ public class PerlinNoiseGenerator extends NoiseGenerator<PerlinNoise> {
 
 	public PerlinNoiseGenerator seed(final long seed) {
 		this.seed = seed;
+		this.permutationTable = PERMUTATION_TABLES.get(seed);
 		return this;
 	}
 
 	public PerlinNoiseGenerator noiseMask(final double noiseMaskIntensity) throws IllegalArgumentException {
-		if (noiseMaskIntensity < 0 || noiseMaskIntensity > 1) {
-			throw new IllegalArgumentException("A perlin noise mask intensity must be a positive value between zero and one. " + noiseMaskIntensity + " is outside that interval.");
-		}
+		setNoiseMaskIntensity(noiseMaskIntensity);
+		return this;
+	}
 
-		this.noiseMaskIntensity = noiseMaskIntensity;
+	/**
+	 * Sets a custom {@link NoiseMask}, such as one built by a {@link SignedDistanceMaskGenerator}, in place of the edge fading mask.
+	 * The mask is sampled row by row during the final normalization pass, so it is never materialized unless it already was.
+	 * 
+	 * @param noiseMask The {@link NoiseMask} with the same dimensions as the generated map.
+	 * @return The {@link PerlinNoiseGenerator} object with the desired {@link NoiseMask}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null.
+	 * @since 1.1
+	 */
+	public PerlinNoiseGenerator noiseMask(final NoiseMask noiseMask) throws IllegalArgumentException {
+		setNoiseMask(noiseMask);
 		return this;
 	}
 
@@ -128,15 +130,56 @@ public class PerlinNoiseGenerator extends NoiseGenerator<PerlinNoise> {
 		return this;
 	}
 
+	/**
+	 * Sets whether this {@link PerlinNoiseGenerator} splits the noise map into row bands that are generated across the common {@link ForkJoinPool}.
+	 * The parallel output is bit-identical to the sequential output for the same parameters.
+	 * 
+	 * @param parallel Whether the generated {@link PerlinNoise} object should be built in parallel.
+	 * @return The {@link PerlinNoiseGenerator} object with the desired parallelism.
+	 * @since 1.1
+	 */
+	public PerlinNoiseGenerator parallel(final boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/**
+	 * Sets whether this {@link PerlinNoiseGenerator} evaluates each octave a whole row at a time using a row kernel, instead of evaluating every octave of one pixel before moving to the next.
+	 * The row kernel output is bit-identical to the per-pixel output for the same parameters.
+	 * 
+	 * @param vectorized Whether the generated {@link PerlinNoise} object should be built using the row kernels.
+	 * @return The {@link PerlinNoiseGenerator} object with the desired vectorization.
+	 * @since 1.1
+	 */
+	public PerlinNoiseGenerator vectorized(final boolean vectorized) {
+		this.vectorized = vectorized;
+		return this;
+	}
+
+	/**
+	 * Sets the number of un-weighted octave layers this {@link PerlinNoiseGenerator} keeps between calls to {@link #generate()}.
+	 * Cached layers are reused whenever the seed, size and octave frequency match, so tuning the persistence only re-weights the cached layers and adding an octave only generates the new layer.
+	 * Each cached layer holds as many values as the noise map, and a capacity of zero disables the cache.
+	 * 
+	 * @param capacity The non-negative maximum number of octave layers to cache.
+	 * @return The {@link PerlinNoiseGenerator} object with the desired octave cache capacity.
+	 * @throws IllegalArgumentException if the given capacity is negative.
+	 * @since 1.1
+	 */
+	public PerlinNoiseGenerator octaveCache(final int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("A perlin noise octave cache capacity must be a positive value. " + capacity + " is too small.");
+		}
+
+		this.octaveCache = (capacity == 0) ? null : new OctaveLayerCache(capacity);
+		return this;
+	}
+
 	@Override
 	public PerlinNoise generate() {
-		this.noiseMask = new NoiseMaskGenerator()
-				.height(this.height)
-				.width(this.width)
-				.intensity(this.noiseMaskIntensity)
-				.generate();
+		this.noiseMask = createNoiseMask();
 
-		this.noise = generateNoiseArray();
+		this.noise = generateNoiseValues();
 		return new PerlinNoise(this.height, this.width, this.seed, this.noise, this.noiseMask, this.frequency, this.octaves, this.persistence, this.lacunarity);
 	}
 
@@ -149,16 +192,16 @@ public class PerlinNoiseGenerator extends NoiseGenerator<PerlinNoise> {
 		double doubleX = (double) x / this.width;
 		double doubleY = (double) y / this.height;
 
-		double frequencyX = (doubleX * frequency) + this.seed;
-		double frequencyY = (doubleY * frequency) + this.seed;
+		double frequencyX = doubleX * frequency;
+		double frequencyY = doubleY * frequency;
 
-		int flooredX = (int) Math.floor(frequencyX) % 256;
-		int flooredY = (int) Math.floor(frequencyY) % 256;
+		int flooredX = (int) Math.floor(frequencyX) & 0xFF;
+		int flooredY = (int) Math.floor(frequencyY) & 0xFF;
 
-		int corner1 = PERMUTATION_TABLE[PERMUTATION_TABLE[flooredX] + flooredY];
-		int corner2 = PERMUTATION_TABLE[PERMUTATION_TABLE[flooredX + 1] + flooredY];
-		int corner3 = PERMUTATION_TABLE[PERMUTATION_TABLE[flooredX] + flooredY + 1];
-		int corner4 = PERMUTATION_TABLE[PERMUTATION_TABLE[flooredX + 1] + flooredY + 1];
+		int corner1 = this.permutationTable[this.permutationTable[flooredX] + flooredY];
+		int corner2 = this.permutationTable[this.permutationTable[flooredX + 1] + flooredY];
+		int corner3 = this.permutationTable[this.permutationTable[flooredX] + flooredY + 1];
+		int corner4 = this.permutationTable[this.permutationTable[flooredX + 1] + flooredY + 1];
 
 		double adjustedX = frequencyX - Math.floor(frequencyX);
 		double adjustedY = frequencyY - Math.floor(frequencyY);
@@ -195,38 +238,509 @@ public class PerlinNoiseGenerator extends NoiseGenerator<PerlinNoise> {
 	}
 
 	@Override
-	protected double[][] generateNoiseArray() {
-		double[][] noise = new double[this.height][this.width];
+	protected double[] generateNoiseValues() {
+		double[] noise = allocateNoiseArray(this.height, this.width);
+		double[] bounds;
+
+		if (this.octaveCache != null) {
+			loadOctaveLayers();
+
+			try {
+				bounds = generateRawNoise(noise, this.width, 0, 0);
+				storeOctaveLayers();
+			} finally {
+				this.octaveLayers = null;
+				this.missingOctaveLayers = null;
+			}
+		} else {
+			bounds = generateRawNoise(noise, this.width, 0, 0);
+		}
+
+		return smoothNoiseArray(noise, this.width, this.noiseMask.isIdentity() ? null : this.noiseMask, bounds[0], bounds[1]);
+	}
+
+	/**
+	 * Generates the square chunk of perlin noise found at the given chunk coordinates of an unbounded world.
+	 * The height and width of this {@link PerlinNoiseGenerator} define the world-space scale of the frequency, so the chunk at (0, 0) with a size equal to the width samples the same domain as {@link #generate()}.
+	 * Chunks are normalized analytically against the total octave amplitude rather than against their own minimum and maximum values, so adjacent chunks line up seamlessly at their borders.
+	 * The edge fading {@link NoiseMask} is not applied to chunks because it would introduce seams.
+	 * 
+	 * @param chunkX The integer x coordinate of the chunk, in units of chunks.
+	 * @param chunkY The integer y coordinate of the chunk, in units of chunks.
+	 * @param chunkSize The non-zero integer height and width of the chunk.
+	 * @return The {@link PerlinNoise} object containing the chunk at the given chunk coordinates.
+	 * @throws IllegalArgumentException if the given chunk size is outside of the valid range, or if the chunk lies outside of the integer coordinate range.
+	 * @since 1.1
+	 */
+	public PerlinNoise generateChunk(final int chunkX, final int chunkY, final int chunkSize) throws IllegalArgumentException {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("A perlin noise chunk size must be a positive, non-zero value. " + chunkSize + " is too small.");
+		}
+
+		long originX = (long) chunkX * chunkSize;
+		long originY = (long) chunkY * chunkSize;
+
+		if (originX < Integer.MIN_VALUE || originX + chunkSize - 1 > Integer.MAX_VALUE || originY < Integer.MIN_VALUE || originY + chunkSize - 1 > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("The perlin noise chunk at (" + chunkX + ", " + chunkY + ") with a size of " + chunkSize + " lies outside of the integer coordinate range.");
+		}
+
+		NoiseMask chunkMask = new NoiseMaskGenerator()
+				.height(chunkSize)
+				.width(chunkSize)
+				.intensity(0)
+				.generate();
+
+		double[] noise = allocateNoiseArray(chunkSize, chunkSize);
+		generateRawNoise(noise, chunkSize, (int) originX, (int) originY);
+		smoothNoiseArray(noise, chunkSize, null, 0, calculateAmplitudeSum());
+
+		return new PerlinNoise(chunkSize, chunkSize, this.seed, noise, chunkMask, this.frequency, this.octaves, this.persistence, this.lacunarity);
+	}
+
+	/**
+	 * Copies the parameters of this {@link PerlinNoiseGenerator} without the last generated map or octave layers.
+	 */
+	@Override
+	protected PerlinNoiseGenerator copy() {
+		PerlinNoiseGenerator copy = (PerlinNoiseGenerator) super.copy();
+		copy.noise = null;
+		copy.octaveLayers = null;
+		copy.missingOctaveLayers = null;
+		return copy;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Streams the {@link PerlinNoise} values corresponding to the parameters entered into this {@link PerlinNoiseGenerator} object one row at a time.
+	 * Like {@link #generateChunk(int, int, int)}, rows are normalized analytically against the total octave amplitude because the minimum and maximum values of the map are not known until every row has been generated.
+	 * 
+	 * @param sink The {@link NoiseRowSink} accepting each finished row.
+	 * @throws IllegalArgumentException if the given sink is null.
+	 * @since 1.1
+	 */
+	@Override
+	public void stream(final NoiseRowSink sink) throws IllegalArgumentException {
+		stream(0, this.height, sink);
+	}
+
+	@Override
+	protected boolean hasIndependentRows() {
+		return true;
+	}
+
+	@Override
+	protected void stream(final int startY, final int endY, final NoiseMask mask, final NoiseRowSink sink) {
+		double amplitudeSum = calculateAmplitudeSum();
+		double[] row = new double[this.width];
+
+		for (int y = startY; y < endY; y++) {
+			Arrays.fill(row, 0);
+
+			generateNoiseBand(row, this.width, 0, y, 0, 1);
+			smoothNoiseBand(row, this.width, null, 0, amplitudeSum, 0, 1);
+			mask.applyToRow(y, row, 0, this.width);
+
+			sink.accept(y, row);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Rows are generated and normalized across the common {@link ForkJoinPool} when this generator is parallel, in which case the {@link NoiseStorage} must support reading and writing different rows concurrently.
+	 * The octave cache is not used, since its layers would hold the whole map on the heap.
+	 */
+	@Override
+	public PerlinNoise generate(final NoiseStorage noiseStorage) throws IllegalArgumentException {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("A perlin noise storage cannot be null.");
+		} else if (noiseStorage.getHeight() != this.height || noiseStorage.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise storage do not match those of this perlin noise map.");
+		}
+
+		this.noiseMask = createNoiseMask();
+		NoiseMask mask = this.noiseMask.isIdentity() ? null : this.noiseMask;
+
+		if (this.parallel) {
+			double[] bounds = RowBands.reduce(0, this.height, (startY, endY) -> generateStorageBand(noiseStorage, startY, endY), PerlinNoiseGenerator::combineBounds);
+			RowBands.forEach(0, this.height, (startY, endY) -> smoothStorageBand(noiseStorage, mask, bounds[0], bounds[1], startY, endY));
+		} else {
+			double[] bounds = generateStorageBand(noiseStorage, 0, this.height);
+			smoothStorageBand(noiseStorage, mask, bounds[0], bounds[1], 0, this.height);
+		}
+
+		return new PerlinNoise(this.seed, noiseStorage, this.noiseMask, this.frequency, this.octaves, this.persistence, this.lacunarity);
+	}
+
+	/**
+	 * Generates a sequence of {@link PerlinNoise} frames by sampling three dimensional perlin noise along a time axis.
+	 * Time is measured in the same units as the map coordinates, so a time step of one moves every octave by its own frequency.
+	 * Frames are normalized analytically against the total octave amplitude so that brightness does not flicker between frames.
+	 * The permutation table, sample coordinates and {@link NoiseMask} are shared by every frame, and frames are generated across the common {@link ForkJoinPool} when this generator is parallel.
+	 * 
+	 * @param startTime The double time of the first frame.
+	 * @param timeStep The double time between consecutive frames.
+	 * @param count The non-zero integer number of frames.
+	 * @return The array of generated {@link PerlinNoise} frames in chronological order.
+	 * @throws IllegalArgumentException if the given frame count is outside of the valid range.
+	 * @since 1.1
+	 */
+	public PerlinNoise[] generateFrames(final double startTime, final double timeStep, final int count) throws IllegalArgumentException {
+		if (count < 1) {
+			throw new IllegalArgumentException("A perlin noise frame count must be a positive, non-zero value. " + count + " is too small.");
+		}
+
+		double[] timesZ = new double[count];
+
+		for (int frame = 0; frame < count; frame++) {
+			timesZ[frame] = startTime + frame * timeStep;
+		}
+
+		return generateFrameSequence(timesZ, null);
+	}
+
+	/**
+	 * Generates a seamlessly looping sequence of {@link PerlinNoise} frames by sampling four dimensional perlin noise along a circle in the third and fourth dimensions.
+	 * The frame following the last frame would be identical to the first frame.
+	 * Frames share their state and are normalized in the same way as {@link #generateFrames(double, double, int)}.
+	 * 
+	 * @param count The non-zero integer number of frames in the loop.
+	 * @param radius The non-zero double radius of the time circle, where larger values produce more change over the course of the loop.
+	 * @return The array of generated {@link PerlinNoise} frames in chronological order.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	public PerlinNoise[] generateLoopingFrames(final int count, final double radius) throws IllegalArgumentException {
+		if (count < 1) {
+			throw new IllegalArgumentException("A perlin noise frame count must be a positive, non-zero value. " + count + " is too small.");
+		} else if (radius < Double.MIN_VALUE) {
+			throw new IllegalArgumentException("A perlin noise loop radius must be a positive, non-zero value. " + radius + " is too small.");
+		}
+
+		double[] timesZ = new double[count];
+		double[] timesW = new double[count];
+
+		for (int frame = 0; frame < count; frame++) {
+			double angle = 2 * Math.PI * frame / count;
+			timesZ[frame] = Math.cos(angle) * radius;
+			timesW[frame] = Math.sin(angle) * radius;
+		}
+
+		return generateFrameSequence(timesZ, timesW);
+	}
+
+	/**
+	 * Generates one frame for each of the given third dimension times, sampling four dimensional noise when fourth dimension times are also given.
+	 */
+	private PerlinNoise[] generateFrameSequence(final double[] timesZ, final double[] timesW) {
+		NoiseMask frameMask = createNoiseMask();
+
+		double[] coordinatesX = new double[this.width];
+		double[] coordinatesY = new double[this.height];
+
+		for (int x = 0; x < this.width; x++) {
+			coordinatesX[x] = (double) x / this.width;
+		}
 
 		for (int y = 0; y < this.height; y++) {
-			for (int x = 0; x < this.width; x++) {
-				noise[y][x] = generateOctaveNoiseValue(x, y);
+			coordinatesY[y] = (double) y / this.height;
+		}
+
+		PerlinNoise[] frames = new PerlinNoise[timesZ.length];
+		double amplitudeSum = calculateAmplitudeSum();
+
+		if (this.parallel) {
+			RowBands.forEach(0, frames.length, 1, (startFrame, endFrame) -> generateFrameRange(frames, frameMask, coordinatesX, coordinatesY, amplitudeSum, timesZ, timesW, startFrame, endFrame));
+		} else {
+			generateFrameRange(frames, frameMask, coordinatesX, coordinatesY, amplitudeSum, timesZ, timesW, 0, frames.length);
+		}
+
+		return frames;
+	}
+
+	/**
+	 * Generates the given contiguous range of frames, where the fourth dimension times are null for three dimensional frames.
+	 */
+	private void generateFrameRange(final PerlinNoise[] frames, final NoiseMask frameMask, final double[] coordinatesX, final double[] coordinatesY, final double amplitudeSum, final double[] timesZ, final double[] timesW, final int startFrame, final int endFrame) {
+		boolean looping = (timesW != null);
+
+		for (int frame = startFrame; frame < endFrame; frame++) {
+			double timeW = looping ? timesW[frame] : 0;
+			double[] noise = generateFrameNoise(frameMask, coordinatesX, coordinatesY, amplitudeSum, timesZ[frame], timeW, looping);
+			frames[frame] = new PerlinNoise(this.height, this.width, this.seed, noise, frameMask, this.frequency, this.octaves, this.persistence, this.lacunarity);
+		}
+	}
+
+	private double[] generateFrameNoise(final NoiseMask frameMask, final double[] coordinatesX, final double[] coordinatesY, final double amplitudeSum, final double timeZ, final double timeW, final boolean looping) {
+		double[] noise = allocateNoiseArray(this.height, this.width);
+
+		for (int y = 0, index = 0; y < this.height; y++) {
+			int offset = index;
 
-				if (noise[y][x] > this.maxNoiseValue)  {
-					this.maxNoiseValue = noise[y][x];
-				} else if (noise[y][x] < this.minNoiseValue) {
-					this.minNoiseValue = noise[y][x];
+			for (int x = 0; x < this.width; x++, index++) {
+				double value = 0;
+				double amplitude = 1;
+				double frequency = this.frequency;
+
+				for (int i = 0; i < this.octaves; i++) {
+					double perlinValue;
+
+					if (looping) {
+						perlinValue = PerlinVolumeKernel.generateNoiseValue(this.permutationTable, coordinatesX[x] * frequency, coordinatesY[y] * frequency, timeZ * frequency, timeW * frequency);
+					} else {
+						perlinValue = PerlinVolumeKernel.generateNoiseValue(this.permutationTable, coordinatesX[x] * frequency, coordinatesY[y] * frequency, timeZ * frequency);
+					}
+
+					value += ((perlinValue + 1) / 2) * amplitude;
+
+					amplitude *= this.persistence;
+					frequency *= this.lacunarity;
+				}
+
+				noise[index] = Math.min(1, Math.max(0, value / amplitudeSum));
+			}
+
+			frameMask.applyToRow(y, noise, offset, 0, this.width);
+		}
+
+		return noise;
+	}
+
+	private double calculateAmplitudeSum() {
+		double amplitudeSum = 0;
+		double amplitude = 1;
+
+		for (int i = 0; i < this.octaves; i++) {
+			amplitudeSum += amplitude;
+			amplitude *= this.persistence;
+		}
+
+		return amplitudeSum;
+	}
+
+	private double[] generateRawNoise(final double[] noise, final int rowWidth, final int originX, final int originY) {
+		int rows = noise.length / rowWidth;
+
+		if (this.parallel) {
+			return RowBands.reduce(0, rows, (startY, endY) -> generateNoiseBand(noise, rowWidth, originX, originY, startY, endY), PerlinNoiseGenerator::combineBounds);
+		}
+
+		return generateNoiseBand(noise, rowWidth, originX, originY, 0, rows);
+	}
+
+	/**
+	 * Looks up the layer of every octave in the octave cache, allocating the layers that are missing.
+	 * Octaves that share a frequency, such as every octave when the lacunarity is 1, share a single layer which is only computed and stored by the first of them.
+	 */
+	private void loadOctaveLayers() {
+		this.octaveLayers = new double[this.octaves][];
+		this.missingOctaveLayers = new boolean[this.octaves];
+
+		double[] frequencies = new double[this.octaves];
+		double frequency = this.frequency;
+
+		for (int i = 0; i < this.octaves; i++) {
+			frequencies[i] = frequency;
+
+			for (int j = 0; j < i && this.octaveLayers[i] == null; j++) {
+				if (Double.doubleToLongBits(frequencies[j]) == Double.doubleToLongBits(frequency)) {
+					this.octaveLayers[i] = this.octaveLayers[j];
 				}
 			}
+
+			if (this.octaveLayers[i] == null) {
+				this.octaveLayers[i] = this.octaveCache.get(this.seed, this.height, this.width, frequency);
+
+				if (this.octaveLayers[i] == null) {
+					this.octaveLayers[i] = allocateNoiseArray(this.height, this.width);
+					this.missingOctaveLayers[i] = true;
+				}
+			}
+
+			frequency *= this.lacunarity;
 		}
+	}
+
+	private void storeOctaveLayers() {
+		double frequency = this.frequency;
 
-		noise = smoothNoiseArray(noise);
+		for (int i = 0; i < this.octaves; i++) {
+			if (this.missingOctaveLayers[i]) {
+				this.octaveCache.put(this.seed, this.height, this.width, frequency, this.octaveLayers[i]);
+			}
+
+			frequency *= this.lacunarity;
+		}
+	}
+
+	/**
+	 * Generates the raw octave sums of the given band of rows, where row y of the band is stored at index {@code y * rowWidth} and samples the map coordinates offset by the given origin.
+	 */
+	private double[] generateNoiseBand(final double[] noise, final int rowWidth, final int originX, final int originY, final int startY, final int endY) {
+		double minNoiseValue = Double.MAX_VALUE;
+		double maxNoiseValue = -Double.MAX_VALUE;
+
+		boolean perPixel = false;
+
+		if (this.octaveLayers != null) {
+			generateLayeredNoiseRows(noise, startY, endY);
+		} else if (this.vectorized) {
+			generateOctaveNoiseRows(noise, rowWidth, originX, originY, startY, endY);
+		} else {
+			perPixel = true;
+		}
+
+		for (int y = startY; y < endY; y++) {
+			for (int x = 0, index = y * rowWidth; x < rowWidth; x++, index++) {
+				if (perPixel) {
+					noise[index] = generateOctaveNoiseValue(originX + x, originY + y);
+				}
+
+				minNoiseValue = Math.min(minNoiseValue, noise[index]);
+				maxNoiseValue = Math.max(maxNoiseValue, noise[index]);
+			}
+		}
+
+		return new double[] {minNoiseValue, maxNoiseValue};
+	}
+
+	/**
+	 * Generates the raw octave sums of the given band of rows one row at a time, writing each row into the given {@link NoiseStorage}.
+	 */
+	private double[] generateStorageBand(final NoiseStorage noiseStorage, final int startY, final int endY) {
+		double minNoiseValue = Double.MAX_VALUE;
+		double maxNoiseValue = -Double.MAX_VALUE;
+		double[] row = new double[this.width];
+
+		for (int y = startY; y < endY; y++) {
+			Arrays.fill(row, 0);
+
+			double[] bounds = generateNoiseBand(row, this.width, 0, y, 0, 1);
+			minNoiseValue = Math.min(minNoiseValue, bounds[0]);
+			maxNoiseValue = Math.max(maxNoiseValue, bounds[1]);
+
+			noiseStorage.writeRow(y, row);
+		}
+
+		return new double[] {minNoiseValue, maxNoiseValue};
+	}
+
+	/**
+	 * Combines the minimum and maximum noise values of two bands into those of both bands.
+	 */
+	private static double[] combineBounds(final double[] upperBounds, final double[] lowerBounds) {
+		return new double[] {Math.min(upperBounds[0], lowerBounds[0]), Math.max(upperBounds[1], lowerBounds[1])};
+	}
+
+	private void generateOctaveNoiseRows(final double[] noise, final int rowWidth, final int originX, final int originY, final int startY, final int endY) {
+		PerlinRowKernel kernel = ScalarPerlinRowKernel.INSTANCE;
+		double[] coordinatesX = new double[rowWidth];
+
+		for (int x = 0; x < coordinatesX.length; x++) {
+			coordinatesX[x] = (double) (originX + x) / this.width;
+		}
+
+		for (int y = startY; y < endY; y++) {
+			double coordinateY = (double) (originY + y) / this.height;
+			double amplitude = 1;
+			double frequency = this.frequency;
+
+			for (int i = 0; i < this.octaves; i++) {
+				kernel.accumulateRow(this.permutationTable, noise, y * rowWidth, coordinatesX, coordinateY, frequency, amplitude);
+
+				amplitude *= this.persistence;
+				frequency *= this.lacunarity;
+			}
+		}
+	}
+
+	private void generateLayeredNoiseRows(final double[] noise, final int startY, final int endY) {
+		PerlinRowKernel kernel = ScalarPerlinRowKernel.INSTANCE;
+		double[] coordinatesX = new double[this.width];
+
+		for (int x = 0; x < this.width; x++) {
+			coordinatesX[x] = (double) x / this.width;
+		}
+
+		for (int y = startY; y < endY; y++) {
+			double coordinateY = (double) y / this.height;
+			double amplitude = 1;
+			double frequency = this.frequency;
+
+			for (int i = 0; i < this.octaves; i++) {
+				double[] layer = this.octaveLayers[i];
+				int offset = y * this.width;
+
+				if (this.missingOctaveLayers[i]) {
+					kernel.accumulateRow(this.permutationTable, layer, offset, coordinatesX, coordinateY, frequency, 1);
+				}
+
+				for (int x = 0; x < this.width; x++) {
+					noise[offset + x] += layer[offset + x] * amplitude;
+				}
+
+				amplitude *= this.persistence;
+				frequency *= this.lacunarity;
+			}
+		}
+	}
+
+	private double[] smoothNoiseArray(final double[] noise, final int rowWidth, final NoiseMask mask, final double minNoiseValue, final double maxNoiseValue) {
+		int rows = noise.length / rowWidth;
+
+		if (this.parallel) {
+			RowBands.forEach(0, rows, (startY, endY) -> smoothNoiseBand(noise, rowWidth, mask, minNoiseValue, maxNoiseValue, startY, endY));
+		} else {
+			smoothNoiseBand(noise, rowWidth, mask, minNoiseValue, maxNoiseValue, 0, rows);
+		}
 
 		return noise;
 	}
 
-	private double[][] smoothNoiseArray(final double[][] noise) {
-		double[][] smoothNoise = new double[this.height][this.width];
-		double[][] maskNoise = this.noiseMask.getMask();
+	/**
+	 * Normalizes the given band of rows in place and applies the given {@link NoiseMask}, if any, to each row.
+	 */
+	private void smoothNoiseBand(final double[] noise, final int rowWidth, final NoiseMask mask, final double minNoiseValue, final double maxNoiseValue, final int startY, final int endY) {
+		for (int y = startY; y < endY; y++) {
+			int offset = y * rowWidth;
 
-		for (int y = 0; y < this.height; y++) {
-			for (int x = 0; x < this.width; x++) {
-				smoothNoise[y][x] = inverseLerp(noise[y][x], this.minNoiseValue, this.maxNoiseValue);
-				smoothNoise[y][x] = Math.max(0, smoothNoise[y][x] - maskNoise[y][x]);
+			for (int x = 0; x < rowWidth; x++) {
+				noise[offset + x] = inverseLerp(noise[offset + x], minNoiseValue, maxNoiseValue);
+			}
+
+			if (mask != null) {
+				mask.applyToRow(y, noise, offset, 0, rowWidth);
 			}
 		}
+	}
+
+	/**
+	 * Reads back the raw octave sums of the given band of rows from the given {@link NoiseStorage}, then normalizes and masks each row in place.
+	 */
+	private void smoothStorageBand(final NoiseStorage noiseStorage, final NoiseMask mask, final double minNoiseValue, final double maxNoiseValue, final int startY, final int endY) {
+		double[] row = new double[this.width];
+
+		for (int y = startY; y < endY; y++) {
+			noiseStorage.readRow(y, row);
 
-		return smoothNoise;
+			for (int x = 0; x < this.width; x++) {
+				row[x] = inverseLerp(row[x], minNoiseValue, maxNoiseValue);
+			}
+
+			if (mask != null) {
+				mask.applyToRow(y, row, 0, this.width);
+			}
+
+			noiseStorage.writeRow(y, row);
+		}
 	}
 
 	private double fade(final double noiseValue) {
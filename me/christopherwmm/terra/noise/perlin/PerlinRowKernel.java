@@ -0,0 +1,23 @@
+package me.christopherwmm.terra.noise.perlin;
+
+/**
+ * A kernel that evaluates a single octave of perlin noise across an entire row of a noise map.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+interface PerlinRowKernel {
+	/**
+	 * Adds a single octave of perlin noise, scaled by the given amplitude, to every value of the given row.
+	 * 
+	 * @param permutationTable The 512 entry seed-dependent permutation table used to select the gradient of each perlin grid vertex.
+	 * @param values The double array containing the row values the octave is accumulated into.
+	 * @param offset The index of the first value of the row within the given array.
+	 * @param coordinatesX The double array of x coordinates, within the interval <b>[0.0 - 1.0)</b>, of each value in the row, which also defines the length of the row.
+	 * @param coordinateY The double y coordinate, within the interval <b>[0.0 - 1.0)</b>, of the row.
+	 * @param frequency The double frequency of the octave.
+	 * @param amplitude The double amplitude of the octave.
+	 * @since 1.1
+	 */
+	public abstract void accumulateRow(final int[] permutationTable, final double[] values, final int offset, final double[] coordinatesX, final double coordinateY, final double frequency, final double amplitude);
+}
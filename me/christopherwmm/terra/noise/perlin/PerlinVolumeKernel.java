@@ -0,0 +1,122 @@
+package me.christopherwmm.terra.noise.perlin;
+
+/**
+ * The three and four dimensional improved perlin noise functions used to animate {@link PerlinNoise} along a time axis.
+ * Both functions return values within approximately the interval <b>[-1.0 - 1.0]</b>.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class PerlinVolumeKernel {
+	private PerlinVolumeKernel() {}
+
+	/**
+	 * Evaluates three dimensional improved perlin noise at the given coordinates.
+	 * 
+	 * @param permutationTable The 512 entry seed-dependent permutation table used to select the gradient of each perlin grid vertex.
+	 * @param x The double x coordinate.
+	 * @param y The double y coordinate.
+	 * @param z The double z coordinate.
+	 * @return The perlin noise value at the given coordinates.
+	 * @since 1.1
+	 */
+	static double generateNoiseValue(final int[] permutationTable, final double x, final double y, final double z) {
+		double flooredX = Math.floor(x);
+		double flooredY = Math.floor(y);
+		double flooredZ = Math.floor(z);
+
+		int cellX = (int) flooredX & 0xFF;
+		int cellY = (int) flooredY & 0xFF;
+		int cellZ = (int) flooredZ & 0xFF;
+
+		double adjustedX = x - flooredX;
+		double adjustedY = y - flooredY;
+		double adjustedZ = z - flooredZ;
+
+		return calculateVolume(permutationTable, cellX, cellY, cellZ, -1, adjustedX, adjustedY, adjustedZ, 0, fade(adjustedX), fade(adjustedY), fade(adjustedZ));
+	}
+
+	/**
+	 * Evaluates four dimensional improved perlin noise at the given coordinates.
+	 * 
+	 * @param permutationTable The 512 entry seed-dependent permutation table used to select the gradient of each perlin grid vertex.
+	 * @param x The double x coordinate.
+	 * @param y The double y coordinate.
+	 * @param z The double z coordinate.
+	 * @param w The double w coordinate.
+	 * @return The perlin noise value at the given coordinates.
+	 * @since 1.1
+	 */
+	static double generateNoiseValue(final int[] permutationTable, final double x, final double y, final double z, final double w) {
+		double flooredX = Math.floor(x);
+		double flooredY = Math.floor(y);
+		double flooredZ = Math.floor(z);
+		double flooredW = Math.floor(w);
+
+		int cellX = (int) flooredX & 0xFF;
+		int cellY = (int) flooredY & 0xFF;
+		int cellZ = (int) flooredZ & 0xFF;
+		int cellW = (int) flooredW & 0xFF;
+
+		double adjustedX = x - flooredX;
+		double adjustedY = y - flooredY;
+		double adjustedZ = z - flooredZ;
+		double adjustedW = w - flooredW;
+
+		double interpolatedX = fade(adjustedX);
+		double interpolatedY = fade(adjustedY);
+		double interpolatedZ = fade(adjustedZ);
+
+		double lowerVolume = calculateVolume(permutationTable, cellX, cellY, cellZ, cellW, adjustedX, adjustedY, adjustedZ, adjustedW, interpolatedX, interpolatedY, interpolatedZ);
+		double upperVolume = calculateVolume(permutationTable, cellX, cellY, cellZ, cellW + 1, adjustedX, adjustedY, adjustedZ, adjustedW - 1, interpolatedX, interpolatedY, interpolatedZ);
+
+		return lerp(fade(adjustedW), lowerVolume, upperVolume);
+	}
+
+	/**
+	 * Trilinearly interpolates the eight gradient contributions of a single cube, optionally hashed once more by the given w cell when evaluating four dimensional noise.
+	 * A negative w cell selects the three dimensional gradients.
+	 */
+	private static double calculateVolume(final int[] p, final int cellX, final int cellY, final int cellZ, final int cellW, final double x, final double y, final double z, final double w, final double u, final double v, final double s) {
+		int a = p[cellX] + cellY;
+		int aa = p[a] + cellZ;
+		int ab = p[a + 1] + cellZ;
+		int b = p[cellX + 1] + cellY;
+		int ba = p[b] + cellZ;
+		int bb = p[b + 1] + cellZ;
+
+		double lowerZ = lerp(v,
+				lerp(u, calculateGradient(p, aa, cellW, x, y, z, w), calculateGradient(p, ba, cellW, x - 1, y, z, w)),
+				lerp(u, calculateGradient(p, ab, cellW, x, y - 1, z, w), calculateGradient(p, bb, cellW, x - 1, y - 1, z, w)));
+		double upperZ = lerp(v,
+				lerp(u, calculateGradient(p, aa + 1, cellW, x, y, z - 1, w), calculateGradient(p, ba + 1, cellW, x - 1, y, z - 1, w)),
+				lerp(u, calculateGradient(p, ab + 1, cellW, x, y - 1, z - 1, w), calculateGradient(p, bb + 1, cellW, x - 1, y - 1, z - 1, w)));
+
+		return lerp(s, lowerZ, upperZ);
+	}
+
+	private static double calculateGradient(final int[] p, final int index, final int cellW, final double x, final double y, final double z, final double w) {
+		if (cellW < 0) {
+			int hash = p[index] & 15;
+			double u = (hash < 8) ? x : y;
+			double v = (hash < 4) ? y : ((hash == 12 || hash == 14) ? x : z);
+
+			return (((hash & 1) == 0) ? u : -u) + (((hash & 2) == 0) ? v : -v);
+		}
+
+		int hash = p[p[index] + cellW] & 31;
+		double u = (hash < 24) ? x : y;
+		double v = (hash < 16) ? y : z;
+		double t = (hash < 8) ? z : w;
+
+		return (((hash & 1) == 0) ? u : -u) + (((hash & 2) == 0) ? v : -v) + (((hash & 4) == 0) ? t : -t);
+	}
+
+	private static double fade(final double noiseValue) {
+		return noiseValue * noiseValue * noiseValue * (noiseValue * (noiseValue * 6 - 15) + 10);
+	}
+
+	private static double lerp(final double amount, final double low, final double high) {
+		return low + amount * (high - low);
+	}
+}
@@ -0,0 +1,79 @@
+package me.christopherwmm.terra.noise.perlin;
+
+/**
+ * The portable {@link PerlinRowKernel} that evaluates each value of a row one at a time.
+ * Its results are bit-identical to those of {@link PerlinNoiseGenerator} evaluated per pixel.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class ScalarPerlinRowKernel implements PerlinRowKernel {
+	/** The shared stateless instance of the {@link ScalarPerlinRowKernel}. */
+	static final ScalarPerlinRowKernel INSTANCE = new ScalarPerlinRowKernel();
+
+	@Override
+	public void accumulateRow(final int[] permutationTable, final double[] values, final int offset, final double[] coordinatesX, final double coordinateY, final double frequency, final double amplitude) {
+		accumulateRow(permutationTable, values, offset, coordinatesX, coordinateY, frequency, amplitude, 0);
+	}
+
+	/**
+	 * Adds a single octave of perlin noise to the values of the given row starting at the given index.
+	 * 
+	 * @see PerlinRowKernel#accumulateRow(int[], double[], int, double[], double, double, double)
+	 * @since 1.1
+	 */
+	static void accumulateRow(final int[] permutationTable, final double[] values, final int offset, final double[] coordinatesX, final double coordinateY, final double frequency, final double amplitude, final int startX) {
+		double frequencyY = coordinateY * frequency;
+		int flooredY = (int) Math.floor(frequencyY) & 0xFF;
+		double adjustedY = frequencyY - Math.floor(frequencyY);
+		double interpolatedY = fade(adjustedY);
+
+		for (int x = startX; x < coordinatesX.length; x++) {
+			double frequencyX = coordinatesX[x] * frequency;
+			int flooredX = (int) Math.floor(frequencyX) & 0xFF;
+
+			int corner1 = permutationTable[permutationTable[flooredX] + flooredY];
+			int corner2 = permutationTable[permutationTable[flooredX + 1] + flooredY];
+			int corner3 = permutationTable[permutationTable[flooredX] + flooredY + 1];
+			int corner4 = permutationTable[permutationTable[flooredX + 1] + flooredY + 1];
+
+			double adjustedX = frequencyX - Math.floor(frequencyX);
+
+			double dotCorner1 = calculateDotProduct(corner1, adjustedX, adjustedY);
+			double dotCorner2 = calculateDotProduct(corner2, adjustedX - 1, adjustedY);
+			double dotCorner3 = calculateDotProduct(corner3, adjustedX, adjustedY - 1);
+			double dotCorner4 = calculateDotProduct(corner4, adjustedX - 1, adjustedY - 1);
+
+			double interpolatedX = fade(adjustedX);
+
+			double lerpedX1 = lerp(interpolatedX, dotCorner1, dotCorner2);
+			double lerpedX2 = lerp(interpolatedX, dotCorner3, dotCorner4);
+			double lerpedY = lerp(interpolatedY, lerpedX1, lerpedX2);
+
+			values[offset + x] += ((lerpedY + 1) / 2) * amplitude;
+		}
+	}
+
+	static double fade(final double noiseValue) {
+		return noiseValue * noiseValue * noiseValue * (noiseValue * (noiseValue * 6 - 15) + 10);
+	}
+
+	static double lerp(final double amount, final double low, final double high) {
+		return low + amount * (high - low);
+	}
+
+	static double calculateDotProduct(final int corner, final double x, final double y) {
+		switch(corner % 4) {
+			case 0:
+				return x + y;
+			case 1:
+				return -x + y;
+			case 2:
+				return x - y;
+			case 3:
+				return -x - y;
+			default:
+				return 0;
+		}
+	}
+}
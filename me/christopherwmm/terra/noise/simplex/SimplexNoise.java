@@ -0,0 +1,154 @@
+package me.christopherwmm.terra.noise.simplex;
+
+import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.NoiseStorage;
+import me.christopherwmm.terra.noise.mask.NoiseMask;
+
+/**
+ * The immutable programmatic representation of simplex noise.
+ * Objects store the results output by a {@link SimplexNoiseGenerator} with the specific corresponding parameters.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class SimplexNoise extends Noise {
+	/** The non-zero integer initial frequency of this {@link SimplexNoise} object. */
+	private final int frequency;
+
+	/** The non-zero integer number of octaves present in this {@link SimplexNoise} object. */
+	private final int octaves;
+
+	/** The non-zero double persistence of this {@link SimplexNoise} object. */
+	private final double persistence;
+
+	/** The non-zero double lacunarity of this {@link SimplexNoise} object. */
+	private final double lacunarity;
+
+	/**
+	 * Constructs a new {@link SimplexNoise} object with the given values.
+	 * 
+	 * @param height The non-zero integer height of this {@link SimplexNoise} object.
+	 * @param width The non-zero integer width of this {@link SimplexNoise} object.
+	 * @param seed The long seed used to generate this {@link SimplexNoise} object.
+	 * @param noise The row-major double array containing the individual values of this {@link SimplexNoise} object, which is taken over without being copied.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link SimplexNoise} object.
+	 * @param frequency The non-zero integer initial frequency of this {@link SimplexNoise} object.
+	 * @param octaves The non-zero integer number of octaves present in this {@link SimplexNoise} object.
+	 * @param persistence The non-zero double persistence of this {@link SimplexNoise} object.
+	 * @param lacunarity The non-zero double lacunarity of this {@link SimplexNoise} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	SimplexNoise(final int height, final int width, final long seed, final double[] noise, final NoiseMask noiseMask, final int frequency, final int octaves, final double persistence, final double lacunarity) {
+		super(height, width, seed, noise, noiseMask);
+
+		checkParameters(frequency, octaves, persistence, lacunarity);
+
+		this.frequency = frequency;
+		this.octaves = octaves;
+		this.persistence = persistence;
+		this.lacunarity = lacunarity;
+	}
+
+	/**
+	 * Constructs a new {@link SimplexNoise} object whose values are held by the given {@link NoiseStorage}, which may live outside of the heap.
+	 * 
+	 * @param seed The long seed used to generate this {@link SimplexNoise} object.
+	 * @param noiseStorage The {@link NoiseStorage} containing the individual values of this {@link SimplexNoise} object.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link SimplexNoise} object.
+	 * @param frequency The non-zero integer initial frequency of this {@link SimplexNoise} object.
+	 * @param octaves The non-zero integer number of octaves present in this {@link SimplexNoise} object.
+	 * @param persistence The non-zero double persistence of this {@link SimplexNoise} object.
+	 * @param lacunarity The non-zero double lacunarity of this {@link SimplexNoise} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	SimplexNoise(final long seed, final NoiseStorage noiseStorage, final NoiseMask noiseMask, final int frequency, final int octaves, final double persistence, final double lacunarity) {
+		super(seed, noiseStorage, noiseMask);
+
+		checkParameters(frequency, octaves, persistence, lacunarity);
+
+		this.frequency = frequency;
+		this.octaves = octaves;
+		this.persistence = persistence;
+		this.lacunarity = lacunarity;
+	}
+
+	private static void checkParameters(final int frequency, final int octaves, final double persistence, final double lacunarity) throws IllegalArgumentException {
+		if (frequency < 1) {
+			throw new IllegalArgumentException("A simplex noise map initial frequency must be a positive, non-zero value. " + frequency + " is too small.");
+		} else if (octaves < 1) {
+			throw new IllegalArgumentException("A simplex noise map octave count must be a positive, non-zero value. " + octaves + " is too small.");
+		} else if (persistence < Double.MIN_VALUE) {
+			throw new IllegalArgumentException("A simplex noise persistence must be a positive, non-zero value. " + persistence + " is too small.");
+		} else if (lacunarity < Double.MIN_VALUE) {
+			throw new IllegalArgumentException("A simplex noise lacunarity must be a positive, non-zero value. " + lacunarity + " is too small.");
+		}
+	}
+
+	/**
+	 * Constructs a new {@link SimplexNoise} object that is a copy of the given {@link SimplexNoise} object, sharing its immutable values.
+	 * 
+	 * @param simplexNoise The {@link SimplexNoise} object being copied.
+	 * @since 1.1
+	 */
+	SimplexNoise(final SimplexNoise simplexNoise) {
+		super(simplexNoise);
+
+		this.frequency = simplexNoise.getFrequency();
+		this.octaves = simplexNoise.getOctaves();
+		this.persistence = simplexNoise.getPersistence();
+		this.lacunarity = simplexNoise.getLacunarity();
+	}
+
+	/**
+	 * Returns the non-zero initial frequency of this {@link SimplexNoise} object.
+	 * 
+	 * @return The non-zero integer initial frequency of this {@link SimplexNoise} object.
+	 * @since 1.1
+	 */
+	public int getFrequency() {
+		return this.frequency;
+	}
+
+	/** 
+	 * Returns the non-zero number of octaves present in this {@link SimplexNoise} object.
+	 * 
+	 * @return The non-zero integer number of octaves present in this {@link SimplexNoise} object.
+	 * @since 1.1
+	 */
+	public int getOctaves() {
+		return this.octaves;
+	}
+
+	/** 
+	 * Returns the non-zero persistence of this {@link SimplexNoise} object.
+	 * 
+	 * @return The non-zero double persistence of this {@link SimplexNoise} object.
+	 * @since 1.1
+	 */
+	public double getPersistence() {
+		return this.persistence;
+	}
+
+	/** 
+	 * Returns the non-zero lacunarity of this {@link SimplexNoise} object.
+	 * 
+	 * @return The non-zero double lacunarity of this {@link SimplexNoise} object.
+	 * @since 1.1
+	 */
+	public double getLacunarity() {
+		return this.lacunarity;
+	}
+	
+
+	/**
+	 * Returns a new {@link SimplexNoise} object that is a copy of this {@link SimplexNoise} object, sharing its immutable values in constant time.
+	 * 
+	 * @return A new {@link SimplexNoise} object that is a copy of this {@link SimplexNoise} object.
+	 * @since 1.1
+	 */
+	public SimplexNoise clone() {
+		return new SimplexNoise(this);
+	}
+}
@@ -0,0 +1,478 @@
+package me.christopherwmm.terra.noise.simplex;
+
+import me.christopherwmm.terra.noise.NoiseGenerator;
+import me.christopherwmm.terra.noise.NoiseRowSink;
+import me.christopherwmm.terra.noise.NoiseStorage;
+import me.christopherwmm.terra.noise.PermutationTableCache;
+import me.christopherwmm.terra.noise.mask.NoiseMask;
+import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
+import me.christopherwmm.terra.noise.mask.SignedDistanceMaskGenerator;
+
+/**
+ * A concrete subclass of {@link NoiseGenerator} used to generate coherent {@link SimplexNoise} objects.
+ * Simplex noise sums the contributions of the three corners of a skewed triangular grid rather than interpolating the four corners of a square grid, and shows fewer axis-aligned artifacts than perlin noise.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class SimplexNoiseGenerator extends NoiseGenerator<SimplexNoise> {
+	/** The non-zero integer height used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private int height;
+
+	/** The non-zero integer width used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private int width;
+
+	/** The long seed used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private long seed;
+
+	/** The non-zero integer initial frequency used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private int frequency;
+
+	/** The non-zero integer number of octaves used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private int octaves;
+
+	/** The non-zero double persistence used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private double persistence;
+
+	/** The non-zero double lacunarity used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private double lacunarity;
+
+	/** The row-major double array containing the individual values of the generated {@link SimplexNoise} used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private double[] noise;
+
+	/** The {@link NoiseMask} used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object. */
+	private NoiseMask noiseMask;
+
+	/** The seed-dependent permutation table used by this {@link SimplexNoiseGenerator} to select the gradient of each simplex corner. */
+	private int[] permutationTable;
+
+	/** The bounded cache of seed-dependent permutation tables shared by every {@link SimplexNoiseGenerator}. */
+	private static final PermutationTableCache PERMUTATION_TABLES = new PermutationTableCache(64);
+
+	/** The factor skewing the square grid into the simplex grid. */
+	private static final double SKEW = 0.5 * (Math.sqrt(3.0) - 1.0);
+
+	/** The factor unskewing the simplex grid back into the square grid. */
+	private static final double UNSKEW = (3.0 - Math.sqrt(3.0)) / 6.0;
+
+	/** The factor scaling the summed corner contributions into the interval <b>[-1.0 - 1.0]</b>. */
+	private static final double SCALE = 70.0;
+
+	/** The x components of the eight gradients selectable at each simplex corner. */
+	private static final double GRADIENTS_X[] = {1, -1, 1, -1, 1, -1, 0, 0};
+
+	/** The y components of the eight gradients selectable at each simplex corner. */
+	private static final double GRADIENTS_Y[] = {1, 1, -1, -1, 0, 0, 1, -1};
+
+	/**
+	 * Constructs a new {@link SimplexNoiseGenerator} object with default values.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator() {
+		this.height = 512;
+		this.width = 512;
+		this.seed = 0;
+		this.permutationTable = PERMUTATION_TABLES.get(this.seed);
+		this.frequency = 1;
+		this.octaves = 1;
+		this.persistence = 1;
+		this.lacunarity = 1;
+		this.noiseMask = new NoiseMaskGenerator()
+							.height(this.height)
+							.width(this.width)
+							.intensity(0)
+							.generate();
+	}
+
+	/**
+	 * Sets the non-zero integer height used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param height The desired height of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired height.
+	 * @throws IllegalArgumentException if the given height is negative.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator height(final int height) throws IllegalArgumentException {
+		if (height < 1) {
+			throw new IllegalArgumentException("A simplex noise map height must be a positive, non-zero value. " + height + " is too small.");
+		}
+
+		this.height = height;
+		return this;
+	}
+
+	/**
+	 * Sets the non-zero integer width used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param width The desired width of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired width.
+	 * @throws IllegalArgumentException if the given width is negative.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator width(final int width) throws IllegalArgumentException {
+		if (width < 1) {
+			throw new IllegalArgumentException("A simplex noise map width must be a positive, non-zero value. " + width + " is too small.");
+		}
+
+		this.width = width;
+		return this;
+	}
+
+	/**
+	 * Sets the long seed used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param seed The desired long seed of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired long seed.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator seed(final long seed) {
+		this.seed = seed;
+		this.permutationTable = PERMUTATION_TABLES.get(seed);
+		return this;
+	}
+
+	/**
+	 * Sets the {@link NoiseMask} intensity used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param noiseMaskIntensity The desired {@link NoiseMask} intensity of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired {@link NoiseMask} intensity.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} intensity is outside of the valid range [0-1].
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator noiseMask(final double noiseMaskIntensity) throws IllegalArgumentException {
+		setNoiseMaskIntensity(noiseMaskIntensity);
+		return this;
+	}
+
+	/**
+	 * Sets a custom {@link NoiseMask}, such as one built by a {@link SignedDistanceMaskGenerator}, in place of the edge fading mask.
+	 * The mask is sampled row by row during the final pass, so it is never materialized unless it already was.
+	 * 
+	 * @param noiseMask The {@link NoiseMask} with the same dimensions as the generated map.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired {@link NoiseMask}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator noiseMask(final NoiseMask noiseMask) throws IllegalArgumentException {
+		setNoiseMask(noiseMask);
+		return this;
+	}
+
+	/**
+	 * Sets the non-zero integer initial frequency used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param frequency The desired initial frequency of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired initial frequency.
+	 * @throws IllegalArgumentException if the given initial frequency is outside of the valid range.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator frequency(final int frequency) throws IllegalArgumentException {
+		if (frequency < 1) {
+			throw new IllegalArgumentException("A simplex noise map initial frequency must be a positive, non-zero value. " + frequency + " is too small.");
+		}
+
+		this.frequency = frequency;
+		return this;
+	}
+
+	/**
+	 * Sets the non-zero integer number of octaves used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param octaves The desired number of octaves of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired number of octaves.
+	 * @throws IllegalArgumentException if the given number of octaves is outside of the valid range.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator octaves(final int octaves) throws IllegalArgumentException {
+		if (octaves < 1) {
+			throw new IllegalArgumentException("A simplex noise map octave count must be a positive, non-zero value. " + octaves + " is too small.");
+		}
+
+		this.octaves = octaves;
+		return this;
+	}
+
+	/**
+	 * Sets the non-zero double persistence used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param persistence The desired persistence of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired persistence.
+	 * @throws IllegalArgumentException if the given persistence is outside of the valid range.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator persistence(final double persistence) throws IllegalArgumentException {
+		if (persistence < Double.MIN_VALUE) {
+			throw new IllegalArgumentException("A simplex noise persistence must be a positive, non-zero value. " + persistence + " is too small.");
+		}
+
+		this.persistence = persistence;
+		return this;
+	}
+
+	/**
+	 * Sets the non-zero double lacunarity used by this {@link SimplexNoiseGenerator} to create a new {@link SimplexNoise} object.
+	 *
+	 * @param lacunarity The desired lacunarity of the generated {@link SimplexNoise} object.
+	 * @return The {@link SimplexNoiseGenerator} object with the desired lacunarity.
+	 * @throws IllegalArgumentException if the given lacunarity is outside of the valid range.
+	 * @since 1.1
+	 */
+	public SimplexNoiseGenerator lacunarity(final double lacunarity) throws IllegalArgumentException {
+		if (lacunarity < Double.MIN_VALUE) {
+			throw new IllegalArgumentException("A simplex noise lacunarity must be a positive, non-zero value. " + lacunarity + " is too small.");
+		}
+
+		this.lacunarity = lacunarity;
+		return this;
+	}
+
+	/**
+	 * Constructs a new {@link SimplexNoise} object with the specific corresponding parameters entered into this {@link SimplexNoiseGenerator} object.
+	 *
+	 * @return The {@link SimplexNoise} object generated by this {@link SimplexNoiseGenerator} object.
+	 * @since 1.1
+	 */
+	@Override
+	public SimplexNoise generate() {
+		this.noiseMask = createNoiseMask();
+
+		this.noise = generateNoiseValues();
+
+		return new SimplexNoise(this.height, this.width, this.seed, this.noise, this.noiseMask, this.frequency, this.octaves, this.persistence, this.lacunarity);
+	}
+
+	/**
+	 * Generates the single octave {@link SimplexNoise} value at the specified x and y coordinates based on the specific parameters entered into this {@link SimplexNoiseGenerator} object.
+	 *
+	 * @param x The non-zero integer x coordinate of the {@link SimplexNoise} value being generated.
+	 * @param y The non-zero integer y coordinate of the {@link SimplexNoise} value being generated.
+	 * @return The SimplexNoise value for the specified x and y coordinates within the interval <b>[0.0 - 1.0]</b>.
+	 * @since 1.1
+	 */
+	@Override
+	protected double generateNoiseValue(final int x, final int y) {
+		return generateNoiseValue(x, y, this.frequency);
+	}
+
+	private double generateNoiseValue(final int x, final int y, final double frequency) {
+		return generateNoiseValue(((double) x / this.width) * frequency, ((double) y / this.height) * frequency);
+	}
+
+	private double generateNoiseValue(final double frequencyX, final double frequencyY) {
+		double skew = (frequencyX + frequencyY) * SKEW;
+		int cellX = fastFloor(frequencyX + skew);
+		int cellY = fastFloor(frequencyY + skew);
+
+		double unskew = (cellX + cellY) * UNSKEW;
+		double x0 = frequencyX - (cellX - unskew);
+		double y0 = frequencyY - (cellY - unskew);
+
+		int offsetX = (x0 > y0) ? 1 : 0;
+		int offsetY = (x0 > y0) ? 0 : 1;
+
+		double x1 = x0 - offsetX + UNSKEW;
+		double y1 = y0 - offsetY + UNSKEW;
+		double x2 = x0 - 1 + 2 * UNSKEW;
+		double y2 = y0 - 1 + 2 * UNSKEW;
+
+		int wrappedX = cellX & 0xFF;
+		int wrappedY = cellY & 0xFF;
+
+		int corner0 = this.permutationTable[wrappedX + this.permutationTable[wrappedY]];
+		int corner1 = this.permutationTable[wrappedX + offsetX + this.permutationTable[wrappedY + offsetY]];
+		int corner2 = this.permutationTable[wrappedX + 1 + this.permutationTable[wrappedY + 1]];
+
+		double contribution = calculateCornerContribution(corner0, x0, y0)
+				+ calculateCornerContribution(corner1, x1, y1)
+				+ calculateCornerContribution(corner2, x2, y2);
+
+		return ((SCALE * contribution) + 1) / 2;
+	}
+
+	/**
+	 * Generates the sum of every weighted octave of {@link SimplexNoise} along the row y, storing it in the given array from the given offset.
+	 * Octaves are summed in the same order for every pixel, so each value matches a pixel-by-pixel sum exactly.
+	 *
+	 * @param noise The double array the row is written to.
+	 * @param offset The integer index of the first value of the row within the given array.
+	 * @param y The non-zero integer y coordinate of the row being generated.
+	 * @since 1.1
+	 */
+	protected void generateOctaveNoiseRow(final double[] noise, final int offset, final int y) {
+		double relativeY = (double) y / this.height;
+		double amplitude = 1;
+		double frequency = this.frequency;
+
+		for (int x = 0; x < this.width; x++) {
+			noise[offset + x] = 0;
+		}
+
+		for (int i = 0; i < this.octaves; i++) {
+			double frequencyY = relativeY * frequency;
+
+			for (int x = 0; x < this.width; x++) {
+				noise[offset + x] += generateNoiseValue(((double) x / this.width) * frequency, frequencyY) * amplitude;
+			}
+
+			amplitude *= this.persistence;
+			frequency *= this.lacunarity;
+		}
+	}
+
+	/**
+	 * Calculates the sum of every octave amplitude, which is the largest magnitude an octave sum of single octave values within <b>[0.0 - 1.0]</b> can reach.
+	 */
+	private double calculateAmplitudeSum() {
+		double amplitudeSum = 0;
+		double amplitude = 1;
+
+		for (int i = 0; i < this.octaves; i++) {
+			amplitudeSum += amplitude;
+			amplitude *= this.persistence;
+		}
+
+		return amplitudeSum;
+	}
+
+	/**
+	 * Generates the row-major array of {@link SimplexNoise} values corresponding to the parameters entered into this {@link SimplexNoiseGenerator} object.
+	 * Values are normalized against the minimum and maximum values of the map, then masked in place.
+	 *
+	 * @return The row-major array of SimplexNoise values corresponding to the entered parameters.
+	 * @since 1.1
+	 */
+	@Override
+	protected double[] generateNoiseValues() {
+		double[] noise = allocateNoiseArray(this.height, this.width);
+
+		double minNoiseValue = Double.MAX_VALUE;
+		double maxNoiseValue = -Double.MAX_VALUE;
+
+		for (int y = 0, index = 0; y < this.height; y++) {
+			generateOctaveNoiseRow(noise, index, y);
+
+			for (int x = 0; x < this.width; x++, index++) {
+				minNoiseValue = Math.min(minNoiseValue, noise[index]);
+				maxNoiseValue = Math.max(maxNoiseValue, noise[index]);
+			}
+		}
+
+		for (int y = 0; y < this.height; y++) {
+			smoothNoiseRow(noise, y * this.width, y, this.noiseMask, minNoiseValue, maxNoiseValue);
+		}
+
+		return noise;
+	}
+
+	/**
+	 * Copies the parameters of this {@link SimplexNoiseGenerator} without the last generated map.
+	 */
+	@Override
+	protected SimplexNoiseGenerator copy() {
+		SimplexNoiseGenerator copy = (SimplexNoiseGenerator) super.copy();
+		copy.noise = null;
+		return copy;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Streams the {@link SimplexNoise} values corresponding to the parameters entered into this {@link SimplexNoiseGenerator} object one row at a time.
+	 * Rows are normalized analytically against the total octave amplitude because the minimum and maximum values of the map are not known until every row has been generated.
+	 *
+	 * @param sink The {@link NoiseRowSink} accepting each finished row.
+	 * @throws IllegalArgumentException if the given sink is null.
+	 * @since 1.1
+	 */
+	@Override
+	public void stream(final NoiseRowSink sink) throws IllegalArgumentException {
+		stream(0, this.height, sink);
+	}
+
+	@Override
+	protected boolean hasIndependentRows() {
+		return true;
+	}
+
+	@Override
+	protected void stream(final int startY, final int endY, final NoiseMask mask, final NoiseRowSink sink) {
+		double amplitudeSum = calculateAmplitudeSum();
+		double[] row = new double[this.width];
+
+		for (int y = startY; y < endY; y++) {
+			generateOctaveNoiseRow(row, 0, y);
+
+			smoothNoiseRow(row, 0, y, mask, 0, amplitudeSum);
+			sink.accept(y, row);
+		}
+	}
+
+	@Override
+	public SimplexNoise generate(final NoiseStorage noiseStorage) throws IllegalArgumentException {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("A simplex noise storage cannot be null.");
+		} else if (noiseStorage.getHeight() != this.height || noiseStorage.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise storage do not match those of this simplex noise map.");
+		}
+
+		this.noiseMask = createNoiseMask();
+
+		double minNoiseValue = Double.MAX_VALUE;
+		double maxNoiseValue = -Double.MAX_VALUE;
+		double[] row = new double[this.width];
+
+		for (int y = 0; y < this.height; y++) {
+			generateOctaveNoiseRow(row, 0, y);
+
+			for (int x = 0; x < this.width; x++) {
+				minNoiseValue = Math.min(minNoiseValue, row[x]);
+				maxNoiseValue = Math.max(maxNoiseValue, row[x]);
+			}
+
+			noiseStorage.writeRow(y, row);
+		}
+
+		for (int y = 0; y < this.height; y++) {
+			noiseStorage.readRow(y, row);
+			smoothNoiseRow(row, 0, y, this.noiseMask, minNoiseValue, maxNoiseValue);
+			noiseStorage.writeRow(y, row);
+		}
+
+		return new SimplexNoise(this.seed, noiseStorage, this.noiseMask, this.frequency, this.octaves, this.persistence, this.lacunarity);
+	}
+
+	/**
+	 * Normalizes the row y, stored in the given array from the given offset, in place and applies the given {@link NoiseMask} to it.
+	 */
+	private void smoothNoiseRow(final double[] noise, final int offset, final int y, final NoiseMask mask, final double minNoiseValue, final double maxNoiseValue) {
+		for (int x = offset; x < offset + this.width; x++) {
+			noise[x] = (noise[x] - minNoiseValue) / (maxNoiseValue - minNoiseValue);
+		}
+
+		mask.applyToRow(y, noise, offset, 0, this.width);
+	}
+
+	private int fastFloor(final double value) {
+		int truncated = (int) value;
+		return (value < truncated) ? truncated - 1 : truncated;
+	}
+
+	private double calculateCornerContribution(final int corner, final double x, final double y) {
+		double falloff = 0.5 - x * x - y * y;
+
+		if (falloff < 0) {
+			return 0;
+		}
+
+		falloff *= falloff;
+		return falloff * falloff * (GRADIENTS_X[corner & 7] * x + GRADIENTS_Y[corner & 7] * y);
+	}
+}
@@ -0,0 +1,158 @@
+package me.christopherwmm.terra.noise.voronoi;
+
+import me.christopherwmm.terra.noise.DistanceFormula;
+
+/**
+ * A {@link DistanceFormula} resolved once per generation into the form compared while searching for the nearest feature points.
+ * Distances are compared before their final root, which is only taken once per pixel by {@link #root(double)}.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+abstract class FeatureDistance {
+	/** The exponent of {@link DistanceFormula#Minkowski}, whose distances are raised by plain multiplication. */
+	static final double CUBIC_MINKOWSKI_EXPONENT = 3.0;
+
+	/** The squared euclidean distance, rooted by {@link Math#sqrt(double)}. */
+	private static final FeatureDistance EUCLIDEAN = new FeatureDistance() {
+		@Override
+		double between(final double differenceX, final double differenceY) {
+			return differenceX * differenceX + differenceY * differenceY;
+		}
+
+		@Override
+		double bound(final double gap) {
+			return gap * gap;
+		}
+
+		@Override
+		double root(final double distance) {
+			return Math.sqrt(distance);
+		}
+	};
+
+	/** The manhattan distance, which needs no root. */
+	private static final FeatureDistance MANHATTAN = new FeatureDistance() {
+		@Override
+		double between(final double differenceX, final double differenceY) {
+			return Math.abs(differenceX) + Math.abs(differenceY);
+		}
+	};
+
+	/** The chebyshev distance, which needs no root. */
+	private static final FeatureDistance CHEBYSHEV = new FeatureDistance() {
+		@Override
+		double between(final double differenceX, final double differenceY) {
+			return Math.max(Math.abs(differenceX), Math.abs(differenceY));
+		}
+	};
+
+	/** The cubic minkowski distance of {@link DistanceFormula#Minkowski}, raised by plain multiplication and rooted by {@link Math#cbrt(double)}. */
+	private static final FeatureDistance CUBIC_MINKOWSKI = new FeatureDistance() {
+		@Override
+		double between(final double differenceX, final double differenceY) {
+			return bound(Math.abs(differenceX)) + bound(Math.abs(differenceY));
+		}
+
+		@Override
+		double bound(final double gap) {
+			return gap * gap * gap;
+		}
+
+		@Override
+		double root(final double distance) {
+			return Math.cbrt(distance);
+		}
+	};
+
+	/**
+	 * Returns the {@link FeatureDistance} comparing distances of the given {@link DistanceFormula}.
+	 *
+	 * @param distanceFormula The {@link DistanceFormula} being resolved.
+	 * @param minkowskiExponent The double exponent used when the formula is {@link DistanceFormula#Minkowski}.
+	 * @return The {@link FeatureDistance} of the given formula.
+	 * @since 1.1
+	 */
+	static FeatureDistance of(final DistanceFormula distanceFormula, final double minkowskiExponent) {
+		switch (distanceFormula) {
+			case Euclidean:
+				return EUCLIDEAN;
+			case Manhattan:
+				return MANHATTAN;
+			case Minkowski:
+				return (minkowskiExponent == CUBIC_MINKOWSKI_EXPONENT) ? CUBIC_MINKOWSKI : new MinkowskiDistance(minkowskiExponent);
+			case Chebyshev:
+				return CHEBYSHEV;
+			default:
+				throw new IllegalStateException("The voronoi noise distance formula " + distanceFormula + " is not supported.");
+		}
+	}
+
+	/**
+	 * Calculates the compared distance between two points separated by the given differences along each axis.
+	 *
+	 * @param differenceX The double difference between the points along the x axis.
+	 * @param differenceY The double difference between the points along the y axis.
+	 * @return The distance between the points before its final root.
+	 * @since 1.1
+	 */
+	abstract double between(final double differenceX, final double differenceY);
+
+	/**
+	 * Converts a non-negative straight-line gap along a single axis into a compared distance, as a lower bound of every distance at least that far along either axis.
+	 *
+	 * @param gap The non-negative double gap.
+	 * @return The gap as a distance before its final root.
+	 * @since 1.1
+	 */
+	double bound(final double gap) {
+		return gap;
+	}
+
+	/**
+	 * Applies the final root of this formula to a compared distance.
+	 *
+	 * @param distance The double distance before its final root.
+	 * @return The true distance.
+	 * @since 1.1
+	 */
+	double root(final double distance) {
+		return distance;
+	}
+
+	/**
+	 * Calculates the distance across the diagonal of a single cell, which every voronoi distance channel is expressed relative to.
+	 *
+	 * @return The true distance across a unit cell.
+	 * @since 1.1
+	 */
+	double cellDiagonal() {
+		return root(between(1, 1));
+	}
+
+	/**
+	 * A minkowski distance with an exponent other than the cubic default, raised and rooted by {@link Math#pow(double, double)}.
+	 */
+	private static final class MinkowskiDistance extends FeatureDistance {
+		private final double exponent;
+
+		private MinkowskiDistance(final double exponent) {
+			this.exponent = exponent;
+		}
+
+		@Override
+		double between(final double differenceX, final double differenceY) {
+			return bound(Math.abs(differenceX)) + bound(Math.abs(differenceY));
+		}
+
+		@Override
+		double bound(final double gap) {
+			return Math.pow(gap, this.exponent);
+		}
+
+		@Override
+		double root(final double distance) {
+			return Math.pow(distance, 1 / this.exponent);
+		}
+	}
+}
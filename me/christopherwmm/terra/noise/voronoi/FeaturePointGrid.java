@@ -0,0 +1,97 @@
+package me.christopherwmm.terra.noise.voronoi;
+
+/**
+ * A rectangular cache of the jittered feature point of every voronoi grid cell within a region.
+ * Each cell value is hashed once and then shared by every pixel whose neighborhood search visits the cell.
+ * Cells outside of the cached region fall back to hashing on demand.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+final class FeaturePointGrid {
+	/** The long seed used to hash each cell value. */
+	private final long seed;
+
+	/** The integer x coordinate of the first cached cell. */
+	private final int minimumCellX;
+
+	/** The integer y coordinate of the first cached cell. */
+	private final int minimumCellY;
+
+	/** The non-zero integer number of cached cells along the x axis. */
+	private final int cellsX;
+
+	/** The non-zero integer number of cached cells along the y axis. */
+	private final int cellsY;
+
+	/** The row-major cell values within the interval <b>[0.0 - 1.0)</b> of every cached cell. */
+	private final double[] cellValues;
+
+	/**
+	 * Constructs a new {@link FeaturePointGrid} covering every cell within the given inclusive range.
+	 * 
+	 * @param seed The long seed used to hash each cell value.
+	 * @param minimumCellX The integer x coordinate of the first cached cell.
+	 * @param minimumCellY The integer y coordinate of the first cached cell.
+	 * @param maximumCellX The integer x coordinate of the last cached cell.
+	 * @param maximumCellY The integer y coordinate of the last cached cell.
+	 * @since 1.1
+	 */
+	FeaturePointGrid(final long seed, final int minimumCellX, final int minimumCellY, final int maximumCellX, final int maximumCellY) {
+		this.seed = seed;
+		this.minimumCellX = minimumCellX;
+		this.minimumCellY = minimumCellY;
+		this.cellsX = maximumCellX - minimumCellX + 1;
+		this.cellsY = maximumCellY - minimumCellY + 1;
+		this.cellValues = new double[this.cellsX * this.cellsY];
+
+		for (int y = 0; y < this.cellsY; y++) {
+			for (int x = 0; x < this.cellsX; x++) {
+				this.cellValues[y * this.cellsX + x] = calculateCellValue(minimumCellX + x, minimumCellY + y, seed);
+			}
+		}
+	}
+
+	/**
+	 * Constructs a new {@link FeaturePointGrid} that caches no cells and hashes every cell value on demand, for searches around a single point that would visit each cell at most once.
+	 * 
+	 * @param seed The long seed used to hash each cell value.
+	 * @since 1.1
+	 */
+	FeaturePointGrid(final long seed) {
+		this(seed, 0, 0, -1, -1);
+	}
+
+	/**
+	 * Returns the cell value of the given cell, which jitters its feature point along the cell diagonal.
+	 * 
+	 * @param x The integer x coordinate of the cell.
+	 * @param y The integer y coordinate of the cell.
+	 * @return The cell value within the interval <b>[0.0 - 1.0)</b> of the given cell.
+	 * @since 1.1
+	 */
+	double getCellValue(final int x, final int y) {
+		int offsetX = x - this.minimumCellX;
+		int offsetY = y - this.minimumCellY;
+
+		if (offsetX < 0 || offsetX >= this.cellsX || offsetY < 0 || offsetY >= this.cellsY) {
+			return calculateCellValue(x, y, this.seed);
+		}
+
+		return this.cellValues[offsetY * this.cellsX + offsetX];
+	}
+
+	/**
+	 * Hashes the given cell and seed into the cell value of the given cell.
+	 * 
+	 * @param x The integer x coordinate of the cell.
+	 * @param y The integer y coordinate of the cell.
+	 * @param seed The long seed used to hash the cell value.
+	 * @return The cell value within the interval <b>[0.0 - 1.0)</b> of the given cell.
+	 * @since 1.1
+	 */
+	static double calculateCellValue(final int x, final int y, final long seed) {
+		long hash = (0x653 * x + 0x1B3B * y + 0x3F5 * seed);
+		return (((hash * (hash * hash * 0xEC4D + 0x131071F) + 0x5208DD0D) & Integer.MAX_VALUE) / (double) 0x40000000) / 2;
+	}
+}
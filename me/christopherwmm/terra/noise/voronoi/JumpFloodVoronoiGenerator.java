@@ -0,0 +1,448 @@
+package me.christopherwmm.terra.noise.voronoi;
+
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import me.christopherwmm.terra.noise.DistanceFormula;
+import me.christopherwmm.terra.noise.NoiseGenerator;
+import me.christopherwmm.terra.noise.NoiseRowSink;
+import me.christopherwmm.terra.noise.NoiseStorage;
+import me.christopherwmm.terra.noise.RowBands;
+import me.christopherwmm.terra.noise.mask.NoiseMask;
+import me.christopherwmm.terra.noise.mask.SignedDistanceMaskGenerator;
+
+/**
+ * Generates {@link VoronoiNoise} from an arbitrary list of points using the jump flooding algorithm.
+ * Unlike the grid based {@link VoronoiNoiseGenerator}, the points can be placed anywhere, such as districts or regions chosen by other code.
+ * Each point seeds its own pixel, and every following pass lets each pixel adopt the nearest point known to the pixels a halving step away, so the whole map is labeled within a logarithmic number of passes over the raster.
+ * The result is the usual close approximation of the exact diagram, and a final single-pixel pass corrects most of the remaining mislabeled pixels.
+ * Flooding holds two integer labels per pixel on the heap however the map is output, so maps of more than {@link NoiseStorage#MAX_ARRAY_LENGTH} pixels cannot be generated.
+ *
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public class JumpFloodVoronoiGenerator extends NoiseGenerator<VoronoiNoise> {
+	private int height;
+	private int width;
+	private long seed;
+	private DistanceFormula distanceFormula;
+	private double minkowskiExponent;
+	private VoronoiChannel channel;
+	private double[] pointsX;
+	private double[] pointsY;
+	private double[] noise;
+	private NoiseMask noiseMask;
+	private boolean parallel;
+
+	/** The index marking a pixel that has not been reached by any point yet. */
+	private static final int UNLABELED = -1;
+
+	public JumpFloodVoronoiGenerator() {
+		this.height = 512;
+		this.width = 512;
+		this.seed = 0;
+		this.distanceFormula = DistanceFormula.Euclidean;
+		this.minkowskiExponent = 3.0;
+		this.channel = VoronoiChannel.CellValue;
+		this.pointsX = new double[0];
+		this.pointsY = new double[0];
+		this.parallel = false;
+	}
+
+	public JumpFloodVoronoiGenerator height(final int height) throws IllegalArgumentException {
+		if (height < 1) {
+			throw new IllegalArgumentException("A voronoi noise map height must be a positive, non-zero value. " + height + " is too small.");
+		}
+
+		this.height = height;
+		return this;
+	}
+
+	public JumpFloodVoronoiGenerator width(final int width) throws IllegalArgumentException {
+		if (width < 1) {
+			throw new IllegalArgumentException("A voronoi noise map width must be a positive, non-zero value. " + width + " is too small.");
+		}
+
+		this.width = width;
+		return this;
+	}
+
+	/**
+	 * Sets the seed used to assign each point the cell value shared by every pixel within its region.
+	 *
+	 * @param seed The long seed of the cell values.
+	 * @return This {@link JumpFloodVoronoiGenerator} object.
+	 * @since 1.1
+	 */
+	public JumpFloodVoronoiGenerator seed(final long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	public JumpFloodVoronoiGenerator noiseMask(final double noiseMaskIntensity) throws IllegalArgumentException {
+		setNoiseMaskIntensity(noiseMaskIntensity);
+		return this;
+	}
+
+	/**
+	 * Sets a custom {@link NoiseMask}, such as one built by a {@link SignedDistanceMaskGenerator}, in place of the edge fading mask.
+	 * The mask is sampled row by row during the final pass, so it is never materialized unless it already was.
+	 * 
+	 * @param noiseMask The {@link NoiseMask} with the same dimensions as the generated map.
+	 * @return The {@link JumpFloodVoronoiGenerator} object with the desired {@link NoiseMask}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null.
+	 * @since 1.1
+	 */
+	public JumpFloodVoronoiGenerator noiseMask(final NoiseMask noiseMask) throws IllegalArgumentException {
+		setNoiseMask(noiseMask);
+		return this;
+	}
+
+	public JumpFloodVoronoiGenerator distanceFormula(final DistanceFormula distanceMode) throws IllegalArgumentException {
+		if (distanceMode == null) {
+			throw new IllegalArgumentException("A voronoi noise distance mode cannot be null.");
+		}
+
+		this.distanceFormula = distanceMode;
+		return this;
+	}
+
+	/**
+	 * Sets the exponent used when the {@link DistanceFormula#Minkowski} distance formula is selected.
+	 *
+	 * @param minkowskiExponent The double exponent of at least one.
+	 * @return This {@link JumpFloodVoronoiGenerator} object.
+	 * @throws IllegalArgumentException if the given exponent is smaller than one.
+	 * @since 1.1
+	 */
+	public JumpFloodVoronoiGenerator minkowskiExponent(final double minkowskiExponent) throws IllegalArgumentException {
+		if (!(minkowskiExponent >= 1)) {
+			throw new IllegalArgumentException("A voronoi noise minkowski exponent must be a value of at least one. " + minkowskiExponent + " is too small.");
+		}
+
+		this.minkowskiExponent = minkowskiExponent;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link VoronoiChannel} output by this {@link JumpFloodVoronoiGenerator}.
+	 * Only the nearest point of each pixel is tracked, so the {@link VoronoiChannel#CellValue} and {@link VoronoiChannel#NearestDistance} channels are supported.
+	 * The nearest distance is expressed relative to the diagonal of the whole map.
+	 *
+	 * @param channel The {@link VoronoiChannel} to output.
+	 * @return This {@link JumpFloodVoronoiGenerator} object.
+	 * @throws IllegalArgumentException if the given channel is null or depends on the second-nearest point.
+	 * @since 1.1
+	 */
+	public JumpFloodVoronoiGenerator channel(final VoronoiChannel channel) throws IllegalArgumentException {
+		if (channel == null) {
+			throw new IllegalArgumentException("A voronoi noise channel cannot be null.");
+		} else if (channel.requiresSecondNearest()) {
+			throw new IllegalArgumentException("A jump flood voronoi noise map only tracks the nearest point. " + channel + " is not supported.");
+		}
+
+		this.channel = channel;
+		return this;
+	}
+
+	/**
+	 * Sets the points whose regions make up the generated map, in pixel coordinates where x runs along the width and y along the height.
+	 * Points outside of the map are allowed and still claim the pixels nearest to them.
+	 *
+	 * @param points The {@link List} of points seeding the map.
+	 * @return This {@link JumpFloodVoronoiGenerator} object.
+	 * @throws IllegalArgumentException if the given list is null, empty or contains a null or non-finite point.
+	 * @since 1.1
+	 */
+	public JumpFloodVoronoiGenerator points(final List<? extends Point2D> points) throws IllegalArgumentException {
+		if (points == null || points.isEmpty()) {
+			throw new IllegalArgumentException("A jump flood voronoi noise map must be seeded with at least one point.");
+		}
+
+		double[] pointsX = new double[points.size()];
+		double[] pointsY = new double[points.size()];
+
+		for (int i = 0; i < pointsX.length; i++) {
+			Point2D point = points.get(i);
+
+			if (point == null) {
+				throw new IllegalArgumentException("A jump flood voronoi noise point cannot be null.");
+			} else if (!Double.isFinite(point.getX()) || !Double.isFinite(point.getY())) {
+				throw new IllegalArgumentException("A jump flood voronoi noise point must have finite coordinates. " + point + " is not finite.");
+			}
+
+			pointsX[i] = point.getX();
+			pointsY[i] = point.getY();
+		}
+
+		this.pointsX = pointsX;
+		this.pointsY = pointsY;
+		return this;
+	}
+
+	/**
+	 * Sets whether this {@link JumpFloodVoronoiGenerator} splits every flooding pass into row bands that are processed across the common {@link ForkJoinPool}.
+	 * Each pass reads from one label buffer and writes to another, so the parallel output is bit-identical to the sequential output.
+	 *
+	 * @param parallel Whether the generated {@link VoronoiNoise} object should be built in parallel.
+	 * @return This {@link JumpFloodVoronoiGenerator} object.
+	 * @since 1.1
+	 */
+	public JumpFloodVoronoiGenerator parallel(final boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A jump flood map is not built on a grid of cells, so the resulting {@link VoronoiNoise} object reports a frequency of one.
+	 *
+	 * @throws IllegalArgumentException if no points have been given.
+	 */
+	@Override
+	public VoronoiNoise generate() throws IllegalArgumentException {
+		this.noiseMask = createNoiseMask();
+
+		this.noise = generateNoiseValues();
+
+		return new VoronoiNoise(this.height, this.width, this.seed, this.noise, this.noiseMask, this.distanceFormula, this.minkowskiExponent, this.channel, 1);
+	}
+
+	/**
+	 * Generates the exact value of a single pixel by comparing it against every point, without flooding the map.
+	 */
+	@Override
+	protected double generateNoiseValue(final int x, final int y) {
+		requirePoints();
+
+		FeatureDistance distance = FeatureDistance.of(this.distanceFormula, this.minkowskiExponent);
+		int nearestPoint = 0;
+		double nearestDistance = distance.between(this.pointsX[0] - x, this.pointsY[0] - y);
+
+		for (int point = 1; point < this.pointsX.length; point++) {
+			double currentDistance = distance.between(this.pointsX[point] - x, this.pointsY[point] - y);
+
+			if (currentDistance < nearestDistance) {
+				nearestDistance = currentDistance;
+				nearestPoint = point;
+			}
+		}
+
+		return calculateChannelValue(distance, nearestPoint, x, y, calculateMapDiagonal(distance));
+	}
+
+	@Override
+	protected double[] generateNoiseValues() {
+		double[] noise = allocateNoiseArray(this.height, this.width);
+		FeatureDistance distance = FeatureDistance.of(this.distanceFormula, this.minkowskiExponent);
+		int[] labels = floodLabels(distance);
+		double mapDiagonal = calculateMapDiagonal(distance);
+
+		for (int y = 0; y < this.height; y++) {
+			int offset = y * this.width;
+
+			for (int x = 0; x < this.width; x++) {
+				noise[offset + x] = calculateChannelValue(distance, labels[offset + x], x, y, mapDiagonal);
+			}
+
+			this.noiseMask.applyToRow(y, noise, offset, 0, this.width);
+		}
+
+		return noise;
+	}
+
+	/**
+	 * Copies the parameters of this {@link JumpFloodVoronoiGenerator} without the last generated map.
+	 */
+	@Override
+	protected JumpFloodVoronoiGenerator copy() {
+		JumpFloodVoronoiGenerator copy = (JumpFloodVoronoiGenerator) super.copy();
+		copy.noise = null;
+		return copy;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Flooding propagates labels across the whole map, so no row can be streamed without flooding every other row first.
+	 */
+	@Override
+	protected boolean hasIndependentRows() {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Flooding needs the labels of the whole map before the first row is final, so two integer label planes covering every pixel are held on the heap while the rows are streamed.
+	 *
+	 * @throws IllegalArgumentException if no points have been given, or the map has more pixels than the label planes can hold.
+	 */
+	@Override
+	public void stream(final NoiseRowSink sink) throws IllegalArgumentException {
+		stream(0, this.height, sink);
+	}
+
+	@Override
+	protected void stream(final int startY, final int endY, final NoiseMask mask, final NoiseRowSink sink) {
+		FeatureDistance distance = FeatureDistance.of(this.distanceFormula, this.minkowskiExponent);
+		int[] labels = floodLabels(distance);
+		double[] row = new double[this.width];
+		double mapDiagonal = calculateMapDiagonal(distance);
+
+		for (int y = startY; y < endY; y++) {
+			for (int x = 0; x < this.width; x++) {
+				row[x] = calculateChannelValue(distance, labels[y * this.width + x], x, y, mapDiagonal);
+			}
+
+			mask.applyToRow(y, row, 0, this.width);
+
+			sink.accept(y, row);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Unlike the other generators, the whole map is still flooded on the heap before its rows are written, so the {@link NoiseStorage} only keeps the finished values off the heap.
+	 *
+	 * @throws IllegalArgumentException if the given {@link NoiseStorage} is null or its dimensions do not match those of the generated map, no points have been given, or the map has more pixels than the label planes can hold.
+	 */
+	@Override
+	public VoronoiNoise generate(final NoiseStorage noiseStorage) throws IllegalArgumentException {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("A voronoi noise storage cannot be null.");
+		} else if (noiseStorage.getHeight() != this.height || noiseStorage.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise storage do not match those of this voronoi noise map.");
+		}
+
+		this.noiseMask = createNoiseMask();
+		stream(noiseStorage::writeRow);
+
+		return new VoronoiNoise(this.seed, noiseStorage, this.noiseMask, this.distanceFormula, this.minkowskiExponent, this.channel, 1);
+	}
+
+	/**
+	 * Labels every pixel of the map with the index of its nearest point.
+	 * The step starts at half of the larger map dimension and halves after every pass, followed by one more pass with a step of one.
+	 * Candidates are compared by the given {@link FeatureDistance} before its final root, such as squared euclidean distances, so no root is taken while flooding.
+	 */
+	private int[] floodLabels(final FeatureDistance distance) throws IllegalArgumentException {
+		requirePoints();
+
+		if ((long) this.height * this.width > NoiseStorage.MAX_ARRAY_LENGTH) {
+			throw new IllegalArgumentException("A " + this.width + "x" + this.height + " jump flood voronoi noise map has more pixels than its heap label planes can hold.");
+		}
+
+		int[] labels = new int[this.height * this.width];
+		int[] nextLabels = new int[this.height * this.width];
+		Arrays.fill(labels, UNLABELED);
+
+		for (int point = 0; point < this.pointsX.length; point++) {
+			int pixelX = (int) Math.max(0, Math.min(this.width - 1, Math.round(this.pointsX[point])));
+			int pixelY = (int) Math.max(0, Math.min(this.height - 1, Math.round(this.pointsY[point])));
+			int pixel = pixelY * this.width + pixelX;
+
+			if (labels[pixel] == UNLABELED || distance.between(this.pointsX[point] - pixelX, this.pointsY[point] - pixelY) < distance.between(this.pointsX[labels[pixel]] - pixelX, this.pointsY[labels[pixel]] - pixelY)) {
+				labels[pixel] = point;
+			}
+		}
+
+		int step = Integer.highestOneBit(Math.max(this.height, this.width) - 1);
+
+		while (true) {
+			int passStep = Math.max(step, 1);
+
+			if (this.parallel) {
+				int[] passLabels = labels;
+				int[] passNextLabels = nextLabels;
+				RowBands.forEach(0, this.height, (startY, endY) -> floodBand(distance, passLabels, passNextLabels, passStep, startY, endY));
+			} else {
+				floodBand(distance, labels, nextLabels, passStep, 0, this.height);
+			}
+
+			int[] swap = labels;
+			labels = nextLabels;
+			nextLabels = swap;
+
+			if (step == 0) {
+				return labels;
+			}
+
+			step >>= 1;
+		}
+	}
+
+	/**
+	 * Runs a single flooding pass over the given band of rows, reading labels from one buffer and writing them to the other.
+	 * Ties between points resolve to the lower point index so that the result does not depend on the visiting order.
+	 */
+	private void floodBand(final FeatureDistance distance, final int[] labels, final int[] nextLabels, final int step, final int startY, final int endY) {
+		for (int y = startY; y < endY; y++) {
+			for (int x = 0; x < this.width; x++) {
+				int nearestPoint = labels[y * this.width + x];
+				double nearestDistance = (nearestPoint == UNLABELED) ? Double.MAX_VALUE : distance.between(this.pointsX[nearestPoint] - x, this.pointsY[nearestPoint] - y);
+
+				for (int offsetY = -step; offsetY <= step; offsetY += step) {
+					int neighborY = y + offsetY;
+
+					if (neighborY < 0 || neighborY >= this.height) {
+						continue;
+					}
+
+					for (int offsetX = -step; offsetX <= step; offsetX += step) {
+						int neighborX = x + offsetX;
+
+						if (neighborX < 0 || neighborX >= this.width) {
+							continue;
+						}
+
+						int point = labels[neighborY * this.width + neighborX];
+
+						if (point == UNLABELED || point == nearestPoint) {
+							continue;
+						}
+
+						double currentDistance = distance.between(this.pointsX[point] - x, this.pointsY[point] - y);
+
+						if (currentDistance < nearestDistance || (currentDistance == nearestDistance && point < nearestPoint)) {
+							nearestDistance = currentDistance;
+							nearestPoint = point;
+						}
+					}
+				}
+
+				nextLabels[y * this.width + x] = nearestPoint;
+			}
+		}
+	}
+
+	private double calculateChannelValue(final FeatureDistance distance, final int point, final int x, final int y, final double mapDiagonal) {
+		if (this.channel == VoronoiChannel.NearestDistance) {
+			return Math.min(1, distance.root(distance.between(this.pointsX[point] - x, this.pointsY[point] - y)) / mapDiagonal);
+		}
+
+		return FeaturePointGrid.calculateCellValue(point, 0, this.seed);
+	}
+
+	/**
+	 * Calculates the distance across the diagonal of the whole map, which the nearest distance channel is expressed relative to.
+	 */
+	private double calculateMapDiagonal(final FeatureDistance distance) {
+		return Math.max(1, distance.root(distance.between(this.width - 1, this.height - 1)));
+	}
+
+	private void requirePoints() throws IllegalArgumentException {
+		if (this.pointsX.length == 0) {
+			throw new IllegalArgumentException("A jump flood voronoi noise map must be seeded with at least one point.");
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package me.christopherwmm.terra.noise.voronoi;
+
+import me.christopherwmm.terra.noise.DistanceFormula;
+
+/**
+ * The values a {@link VoronoiNoiseGenerator} can output for every point of a map.
+ * Distances are measured with the selected {@link DistanceFormula}, relative to the diagonal of a single cell and limited to <b>1.0</b>.
+ * 
+ * @since 1.1
+ * @author ChristopherWMM
+ */
+public enum VoronoiChannel {
+	/** The cell value of the nearest feature point, which identifies the cell a point belongs to. */
+	CellValue,
+
+	/** The distance to the nearest feature point, commonly called F1. */
+	NearestDistance,
+
+	/** The distance to the second-nearest feature point, commonly called F2. */
+	SecondNearestDistance,
+
+	/** The difference between the second-nearest and nearest distances, F2 - F1, which falls to zero along cell borders. */
+	EdgeDistance;
+
+	/**
+	 * Returns whether this {@link VoronoiChannel} depends on the second-nearest feature point.
+	 * 
+	 * @return True if the second-nearest feature point is required, otherwise false.
+	 * @since 1.1
+	 */
+	boolean requiresSecondNearest() {
+		return this == SecondNearestDistance || this == EdgeDistance;
+	}
+}
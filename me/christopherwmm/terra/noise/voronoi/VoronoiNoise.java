@@ -2,6 +2,7 @@ package me.christopherwmm.terra.noise.voronoi;
 
 import me.christopherwmm.terra.noise.DistanceFormula;
 import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.NoiseStorage;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 
 /**
@@ -15,6 +16,12 @@ public class VoronoiNoise extends Noise {
 	/** The methodology for calculating distance within this {@link VoronoiNoise} object. */
 	private final DistanceFormula distanceFormula;
 
+	/** The exponent applied when this {@link VoronoiNoise} object uses the {@link DistanceFormula#Minkowski} distance formula. */
+	private final double minkowskiExponent;
+
+	/** The {@link VoronoiChannel} stored within this {@link VoronoiNoise} object. */
+	private final VoronoiChannel channel;
+
 	/** The non-zero integer initial frequency of this {@link VoronoiNoise} object. */
 	private final int frequency;
 
@@ -24,27 +31,64 @@ public class VoronoiNoise extends Noise {
 	 * @param height The non-zero integer height of this {@link VoronoiNoise} object.
 	 * @param width The non-zero integer width of this {@link VoronoiNoise} object.
 	 * @param seed The long seed used to generate this {@link VoronoiNoise} object.
-	 * @param noise The 2D double array containing the individual mask values of this {@link VoronoiNoise} object.
+	 * @param noise The row-major double array containing the individual values of this {@link VoronoiNoise} object, which is taken over without being copied.
 	 * @param noiseMask The {@link NoiseMask} being applied to this {@link VoronoiNoise} object.
+	 * @param distanceFormula The methodology for calculating distance within this {@link VoronoiNoise} object.
+	 * @param minkowskiExponent The exponent of at least one applied by the {@link DistanceFormula#Minkowski} distance formula.
+	 * @param channel The {@link VoronoiChannel} stored within this {@link VoronoiNoise} object.
 	 * @param frequency The non-zero integer initial frequency of this {@link VoronoiNoise} object.
 	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
 	 * @since 1.0
 	 */
-	VoronoiNoise(final int height, final int width, final long seed, final double[][] noiseArray, final NoiseMask noiseMask, final DistanceFormula distanceFormula, final int frequency) {
+	VoronoiNoise(final int height, final int width, final long seed, final double[] noiseArray, final NoiseMask noiseMask, final DistanceFormula distanceFormula, final double minkowskiExponent, final VoronoiChannel channel, final int frequency) {
 		super(height, width, seed, noiseArray, noiseMask);
 
+		checkParameters(distanceFormula, minkowskiExponent, channel, frequency);
+
+		this.distanceFormula = distanceFormula;
+		this.minkowskiExponent = minkowskiExponent;
+		this.channel = channel;
+		this.frequency = frequency;
+	}
+
+	/**
+	 * Constructs a new {@link VoronoiNoise} object whose values are held by the given {@link NoiseStorage}, which may live outside of the heap.
+	 * 
+	 * @param seed The long seed used to generate this {@link VoronoiNoise} object.
+	 * @param noiseStorage The {@link NoiseStorage} containing the individual values of this {@link VoronoiNoise} object.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link VoronoiNoise} object.
+	 * @param distanceFormula The methodology for calculating distance within this {@link VoronoiNoise} object.
+	 * @param minkowskiExponent The exponent of at least one applied by the {@link DistanceFormula#Minkowski} distance formula.
+	 * @param channel The {@link VoronoiChannel} stored within this {@link VoronoiNoise} object.
+	 * @param frequency The non-zero integer initial frequency of this {@link VoronoiNoise} object.
+	 * @throws IllegalArgumentException if the given parameters are outside of the valid range.
+	 * @since 1.1
+	 */
+	VoronoiNoise(final long seed, final NoiseStorage noiseStorage, final NoiseMask noiseMask, final DistanceFormula distanceFormula, final double minkowskiExponent, final VoronoiChannel channel, final int frequency) {
+		super(seed, noiseStorage, noiseMask);
+
+		checkParameters(distanceFormula, minkowskiExponent, channel, frequency);
+
+		this.distanceFormula = distanceFormula;
+		this.minkowskiExponent = minkowskiExponent;
+		this.channel = channel;
+		this.frequency = frequency;
+	}
+
+	private static void checkParameters(final DistanceFormula distanceFormula, final double minkowskiExponent, final VoronoiChannel channel, final int frequency) throws IllegalArgumentException {
 		if (frequency < 1) {
 			throw new IllegalArgumentException("A voronoi noise map initial frequency must be a positive, non-zero value. " + frequency + " is too small.");
 		} else if (distanceFormula == null) {
 			throw new IllegalArgumentException("A voronoi noise distance mode cannot be null.");
+		} else if (!(minkowskiExponent >= 1)) {
+			throw new IllegalArgumentException("A voronoi noise minkowski exponent must be a value of at least one. " + minkowskiExponent + " is too small.");
+		} else if (channel == null) {
+			throw new IllegalArgumentException("A voronoi noise channel cannot be null.");
 		}
-
-		this.distanceFormula = distanceFormula;
-		this.frequency = frequency;
 	}
 
 	/**
-	 * Constructs a new {@link VoronoiNoise} object that is a deep copy based on the given {@link VoronoiNoise} object.
+	 * Constructs a new {@link VoronoiNoise} object that is a copy of the given {@link VoronoiNoise} object, sharing its immutable values.
 	 * 
 	 * @param perlinNoise The {@link VoronoiNoise} object being copied.
 	 * @since 1.0
@@ -53,6 +97,8 @@ public class VoronoiNoise extends Noise {
 		super(voronoiNoise);
 
 		this.distanceFormula = voronoiNoise.getDistanceFormula();
+		this.minkowskiExponent = voronoiNoise.getMinkowskiExponent();
+		this.channel = voronoiNoise.getChannel();
 		this.frequency = voronoiNoise.getFrequency();
 	}
 
@@ -60,6 +106,26 @@ public class VoronoiNoise extends Noise {
 		return this.distanceFormula;
 	}
 
+	/**
+	 * Returns the exponent applied when this {@link VoronoiNoise} object uses the {@link DistanceFormula#Minkowski} distance formula.
+	 * 
+	 * @return The double minkowski exponent of at least one.
+	 * @since 1.1
+	 */
+	public double getMinkowskiExponent() {
+		return this.minkowskiExponent;
+	}
+
+	/**
+	 * Returns the {@link VoronoiChannel} stored within this {@link VoronoiNoise} object.
+	 * 
+	 * @return The {@link VoronoiChannel} of this {@link VoronoiNoise} object.
+	 * @since 1.1
+	 */
+	public VoronoiChannel getChannel() {
+		return this.channel;
+	}
+
 	/**
 	 * Returns the non-zero initial frequency of this {@link VoronoiNoise} object.
 	 * 
@@ -71,9 +137,9 @@ public class VoronoiNoise extends Noise {
 	}
 
 	/**
-	 * Returns a new {@link VoronoiNoise} object that is a deep copy of this {@link VoronoiNoise} object.
+	 * Returns a new {@link VoronoiNoise} object that is a copy of this {@link VoronoiNoise} object, sharing its immutable values in constant time.
 	 * 
-	 * @return A new {@link VoronoiNoise} object that is a deep copy of this {@link VoronoiNoise} object.
+	 * @return A new {@link VoronoiNoise} object that is a copy of this {@link VoronoiNoise} object.
 	 * @since 1.0
 	 */
 	public VoronoiNoise clone() {
@@ -1,32 +1,102 @@
 package me.christopherwmm.terra.noise.voronoi;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import me.christopherwmm.terra.noise.DistanceFormula;
 import me.christopherwmm.terra.noise.NoiseGenerator;
+import me.christopherwmm.terra.noise.NoiseRowSink;
+import me.christopherwmm.terra.noise.NoiseStorage;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
+import me.christopherwmm.terra.noise.mask.SignedDistanceMaskGenerator;
 
 public class VoronoiNoiseGenerator extends NoiseGenerator<VoronoiNoise> {
 	private int height;
 	private int width;
 	private long seed;
 	private DistanceFormula distanceFormula;
+	private double minkowskiExponent;
+	private VoronoiChannel channel;
 	private int frequency;
-	private double[][] noise;
-	private double noiseMaskIntensity;
+	private double[] noise;
 	private NoiseMask noiseMask;
+	private boolean parallel;
+
+	/** The distance, in cells, of the outermost ring of cells that can contain the nearest feature point. */
+	private static final int SEARCH_RADIUS = 2;
+
+	/** The total number of searched cells. */
+	private static final int SEARCH_CELLS = 25;
+
+	/** The x offsets of the searched cells, ordered with the inner 3x3 block first so the outer ring can be pruned. */
+	private static final int[] SEARCH_OFFSETS_X = new int[SEARCH_CELLS];
+
+	/** The y offsets of the searched cells, ordered with the inner 3x3 block first so the outer ring can be pruned. */
+	private static final int[] SEARCH_OFFSETS_Y = new int[SEARCH_CELLS];
+
+	/** The row-major position of each searched cell within the 5x5 block, used to resolve ties exactly as an unpruned scan would. */
+	private static final int[] SEARCH_ORDER = new int[SEARCH_CELLS];
+
+	/** The minkowski exponent used unless another is configured, matching {@link DistanceFormula#Minkowski}. */
+	private static final double DEFAULT_MINKOWSKI_EXPONENT = FeatureDistance.CUBIC_MINKOWSKI_EXPONENT;
+
+	/** The index of the nearest cell value within a search sample. */
+	private static final int SAMPLE_CELL_VALUE = 0;
+
+	/** The index of the nearest distance, before its final root, within a search sample. */
+	private static final int SAMPLE_NEAREST_DISTANCE = 1;
+
+	/** The index of the second-nearest distance, before its final root, within a search sample. */
+	private static final int SAMPLE_SECOND_DISTANCE = 2;
+
+	/** The number of values within a search sample. */
+	private static final int SAMPLE_SIZE = 3;
+
+	/** The number of cells within the inner 3x3 block that are always searched. */
+	private static final int INNER_SEARCH_CELLS = 9;
+
+	/** The largest width and height, in pixels, of a tile generated by a single worker in parallel mode. */
+	private static final int PARALLEL_TILE_SIZE = 64;
+
+	/** The factor applied to every pruning bound to absorb the rounding error of the distance formulas. */
+	private static final double PRUNE_TOLERANCE = 1 - 1e-9;
+
+	static {
+		int index = 0;
+
+		for (int ring = 0; ring < 2; ring++) {
+			for (int offsetY = -SEARCH_RADIUS; offsetY <= SEARCH_RADIUS; offsetY++) {
+				for (int offsetX = -SEARCH_RADIUS; offsetX <= SEARCH_RADIUS; offsetX++) {
+					boolean inner = Math.abs(offsetX) <= 1 && Math.abs(offsetY) <= 1;
+
+					if (inner == (ring == 0)) {
+						SEARCH_OFFSETS_X[index] = offsetX;
+						SEARCH_OFFSETS_Y[index] = offsetY;
+						SEARCH_ORDER[index] = (offsetY + SEARCH_RADIUS) * (2 * SEARCH_RADIUS + 1) + (offsetX + SEARCH_RADIUS);
+						index++;
+					}
+				}
+			}
+		}
+	}
 
 	public VoronoiNoiseGenerator() {
 		this.height = 512;
 		this.width = 512;
 		this.seed = 0;
 		this.distanceFormula = DistanceFormula.Euclidean;
+		this.minkowskiExponent = DEFAULT_MINKOWSKI_EXPONENT;
+		this.channel = VoronoiChannel.CellValue;
+		this.parallel = false;
 		this.frequency = 3;
-		this.noise = new double[this.height][this.width];
-		this.noiseMaskIntensity = 0;
 		this.noiseMask = new NoiseMaskGenerator()
 							.height(this.height)
 							.width(this.width)
-							.intensity(this.noiseMaskIntensity)
+							.intensity(0)
 							.generate();
 	}
 
@@ -54,11 +124,21 @@ public class VoronoiNoiseGenerator extends NoiseGenerator<VoronoiNoise> {
 	}
 
 	public VoronoiNoiseGenerator noiseMask(final double noiseMaskIntensity) throws IllegalArgumentException {
-		if (noiseMaskIntensity < 0 || noiseMaskIntensity > 1) {
-			throw new IllegalArgumentException("A voronoi mask intensity must be a positive value between zero and one. " + noiseMaskIntensity + " is outside that interval.");
-		}
+		setNoiseMaskIntensity(noiseMaskIntensity);
+		return this;
+	}
 
-		this.noiseMaskIntensity = noiseMaskIntensity;
+	/**
+	 * Sets a custom {@link NoiseMask}, such as one built by a {@link SignedDistanceMaskGenerator}, in place of the edge fading mask.
+	 * The mask is sampled row by row during the final pass, so it is never materialized unless it already was.
+	 * 
+	 * @param noiseMask The {@link NoiseMask} with the same dimensions as the generated map.
+	 * @return The {@link VoronoiNoiseGenerator} object with the desired {@link NoiseMask}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null.
+	 * @since 1.1
+	 */
+	public VoronoiNoiseGenerator noiseMask(final NoiseMask noiseMask) throws IllegalArgumentException {
+		setNoiseMask(noiseMask);
 		return this;
 	}
 
@@ -71,6 +151,54 @@ public class VoronoiNoiseGenerator extends NoiseGenerator<VoronoiNoise> {
 		return this;
 	}
 
+	/**
+	 * Sets the exponent used when the {@link DistanceFormula#Minkowski} distance formula is selected.
+	 * An exponent of one matches the manhattan distance, two matches the euclidean distance and larger values approach the chebyshev distance.
+	 * 
+	 * @param minkowskiExponent The double exponent of at least one.
+	 * @return This {@link VoronoiNoiseGenerator} object.
+	 * @throws IllegalArgumentException if the given exponent is smaller than one.
+	 * @since 1.1
+	 */
+	public VoronoiNoiseGenerator minkowskiExponent(final double minkowskiExponent) throws IllegalArgumentException {
+		if (!(minkowskiExponent >= 1)) {
+			throw new IllegalArgumentException("A voronoi noise minkowski exponent must be a value of at least one. " + minkowskiExponent + " is too small.");
+		}
+
+		this.minkowskiExponent = minkowskiExponent;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link VoronoiChannel} output by {@link #generate()} and {@link #stream(NoiseRowSink)}.
+	 * 
+	 * @param channel The {@link VoronoiChannel} to output.
+	 * @return This {@link VoronoiNoiseGenerator} object.
+	 * @throws IllegalArgumentException if the given channel is null.
+	 * @since 1.1
+	 */
+	public VoronoiNoiseGenerator channel(final VoronoiChannel channel) throws IllegalArgumentException {
+		if (channel == null) {
+			throw new IllegalArgumentException("A voronoi noise channel cannot be null.");
+		}
+
+		this.channel = channel;
+		return this;
+	}
+
+	/**
+	 * Sets whether this {@link VoronoiNoiseGenerator} splits the noise map into tiles that are generated across the common {@link ForkJoinPool}.
+	 * Every tile caches only the feature points around itself, so workers share no mutable state, and the parallel output is bit-identical to the sequential output for the same parameters.
+	 * 
+	 * @param parallel Whether the generated {@link VoronoiNoise} object should be built in parallel.
+	 * @return The {@link VoronoiNoiseGenerator} object with the desired parallelism.
+	 * @since 1.1
+	 */
+	public VoronoiNoiseGenerator parallel(final boolean parallel) {
+		this.parallel = parallel;
+		return this;
+	}
+
 	public VoronoiNoiseGenerator frequency(final int frequency) throws IllegalArgumentException {
 		if (frequency < 1) {
 			throw new IllegalArgumentException("A voronoi noise map initial frequency must be a positive, non-zero value. " + frequency + " is too small.");
@@ -82,70 +210,342 @@ public class VoronoiNoiseGenerator extends NoiseGenerator<VoronoiNoise> {
 
 	@Override
 	public VoronoiNoise generate() {
-		this.noiseMask = new NoiseMaskGenerator()
-				.height(this.height)
-				.width(this.width)
-				.intensity(this.noiseMaskIntensity)
-				.generate();
+		this.noiseMask = createNoiseMask();
 
-		this.noise = generateNoiseArray();
+		this.noise = generateNoiseValues();
 
-		return new VoronoiNoise(this.height, this.width, this.seed, this.noise, this.noiseMask, this.distanceFormula, this.frequency);
+		return new VoronoiNoise(this.height, this.width, this.seed, this.noise, this.noiseMask, this.distanceFormula, this.minkowskiExponent, this.channel, this.frequency);
+	}
+
+	/**
+	 * Generates several {@link VoronoiChannel}s of the same map from a single traversal.
+	 * Every channel shares one neighborhood search per point, so requesting more channels costs far less than generating each map separately.
+	 * 
+	 * @param channels The {@link VoronoiChannel}s to generate.
+	 * @return A {@link Map} from each requested {@link VoronoiChannel} to its {@link VoronoiNoise} object.
+	 * @throws IllegalArgumentException if no channels, or a null channel, are given.
+	 * @since 1.1
+	 */
+	public Map<VoronoiChannel, VoronoiNoise> generateChannels(final VoronoiChannel... channels) throws IllegalArgumentException {
+		if (channels == null || channels.length == 0) {
+			throw new IllegalArgumentException("At least one voronoi noise channel must be requested.");
+		}
+
+		EnumSet<VoronoiChannel> channelSet = EnumSet.noneOf(VoronoiChannel.class);
+
+		for (VoronoiChannel channel : channels) {
+			if (channel == null) {
+				throw new IllegalArgumentException("A voronoi noise channel cannot be null.");
+			}
+
+			channelSet.add(channel);
+		}
+
+		this.noiseMask = createNoiseMask();
+
+		VoronoiChannel[] requestedChannels = channelSet.toArray(new VoronoiChannel[0]);
+		double[][] channelNoise = generateChannelArrays(requestedChannels);
+
+		Map<VoronoiChannel, VoronoiNoise> noiseChannels = new EnumMap<>(VoronoiChannel.class);
+
+		for (int channel = 0; channel < requestedChannels.length; channel++) {
+			noiseChannels.put(requestedChannels[channel], new VoronoiNoise(this.height, this.width, this.seed, channelNoise[channel], this.noiseMask, this.distanceFormula, this.minkowskiExponent, requestedChannels[channel], this.frequency));
+		}
+
+		return noiseChannels;
 	}
 
 	@Override
 	protected double generateNoiseValue(final int x, final int y) {
 		double adjustedX = (x / (double) this.height) * frequency;
 		double adjustedY = (y / (double) this.width) * frequency;
+		double[] sample = new double[SAMPLE_SIZE];
+		FeaturePointGrid featurePoints = new FeaturePointGrid(this.seed);
+		FeatureDistance distance = FeatureDistance.of(this.distanceFormula, this.minkowskiExponent);
+
+		search(featurePoints, distance, adjustedX, adjustedY, this.channel.requiresSecondNearest(), sample);
+
+		return calculateChannelValue(this.channel, distance, sample, distance.cellDiagonal());
+	}
+
+	/**
+	 * Fills the given rows with the values of the given channels between the given columns of the given row of this map.
+	 * The row of each channel is stored within its own array starting at the given offset, so rows can be written straight into row-major maps.
+	 * Every channel is taken from the same neighborhood search, and the distance formula is resolved once per row.
+	 */
+	private void generateChannelRows(final FeaturePointGrid featurePoints, final int y, final int startX, final int endX, final VoronoiChannel[] channels, final double[][] rows, final int offset) {
+		double adjustedY = (y / (double) this.width) * frequency;
+		double[] sample = new double[SAMPLE_SIZE];
+		FeatureDistance distance = FeatureDistance.of(this.distanceFormula, this.minkowskiExponent);
+		double cellDiagonal = distance.cellDiagonal();
+		boolean trackSecondNearest = false;
+
+		for (VoronoiChannel channel : channels) {
+			trackSecondNearest |= channel.requiresSecondNearest();
+		}
+
+		for (int x = startX; x < endX; x++) {
+			search(featurePoints, distance, (x / (double) this.height) * frequency, adjustedY, trackSecondNearest, sample);
+			writeChannelValues(channels, distance, rows, offset + x, sample, cellDiagonal);
+		}
+	}
+
+	private void writeChannelValues(final VoronoiChannel[] channels, final FeatureDistance distance, final double[][] rows, final int index, final double[] sample, final double cellDiagonal) {
+		for (int channel = 0; channel < channels.length; channel++) {
+			rows[channel][index] = calculateChannelValue(channels[channel], distance, sample, cellDiagonal);
+		}
+	}
+
+	/**
+	 * Converts a search sample into the value of the given channel.
+	 * Distances are only rooted here, once per point, and are expressed relative to the diagonal of a single cell.
+	 */
+	private double calculateChannelValue(final VoronoiChannel channel, final FeatureDistance distance, final double[] sample, final double cellDiagonal) {
+		switch (channel) {
+			case CellValue:
+				return sample[SAMPLE_CELL_VALUE];
+			case NearestDistance:
+				return Math.min(1, distance.root(sample[SAMPLE_NEAREST_DISTANCE]) / cellDiagonal);
+			case SecondNearestDistance:
+				return Math.min(1, distance.root(sample[SAMPLE_SECOND_DISTANCE]) / cellDiagonal);
+			case EdgeDistance:
+				return Math.min(1, (distance.root(sample[SAMPLE_SECOND_DISTANCE]) - distance.root(sample[SAMPLE_NEAREST_DISTANCE])) / cellDiagonal);
+			default:
+				throw new IllegalStateException("The voronoi noise channel " + channel + " is not supported.");
+		}
+	}
 
+	/**
+	 * Searches the feature points around the given point, comparing distances of the given {@link FeatureDistance} before their final root.
+	 * The inner 3x3 block of cells is always searched, while the outer ring is skipped, cell by cell or entirely, once no point within it could be nearer than those already found.
+	 */
+	private static void search(final FeaturePointGrid featurePoints, final FeatureDistance distance, final double adjustedX, final double adjustedY, final boolean trackSecondNearest, final double[] sample) {
 		int flooredX = (int) adjustedX;
 		int flooredY = (int) adjustedY;
+		double ringGap = distance.bound(calculateRingGap(adjustedX - flooredX, adjustedY - flooredY));
 
 		double minimumDistance = Double.MAX_VALUE;
+		double secondDistance = Double.MAX_VALUE;
+		int minimumSearchOrder = Integer.MAX_VALUE;
+		int nearestX = 0;
+		int nearestY = 0;
 
-		int xNoiseValue = 0;
-		int yNoiseValue = 0;
+		for (int i = 0; i < SEARCH_CELLS; i++) {
+			if (i == INNER_SEARCH_CELLS && ringGap > (trackSecondNearest ? secondDistance : minimumDistance)) {
+				break;
+			}
 
-		for(int currentY = flooredY - 2; currentY <= flooredY + 2; currentY++) {
-			for(int currentX = flooredX - 2; currentX <= flooredX + 2; currentX++) {
-				double currentCellValue = calculateCellValue(currentX, currentY, this.seed);
-				double currentXNoise = currentX + currentCellValue;
-				double currentYNoise = currentY + currentCellValue;
+			int currentX = flooredX + SEARCH_OFFSETS_X[i];
+			int currentY = flooredY + SEARCH_OFFSETS_Y[i];
 
-				double currentDistance = calculateDistance(currentXNoise, currentYNoise, adjustedX, adjustedY, this.distanceFormula);
+			if (i >= INNER_SEARCH_CELLS && distance.bound(calculateCellGap(currentX, currentY, adjustedX, adjustedY)) > (trackSecondNearest ? secondDistance : minimumDistance)) {
+				continue;
+			}
 
-				if (currentDistance < minimumDistance) {
-					minimumDistance = currentDistance;
-					xNoiseValue = (int) currentXNoise;
-					yNoiseValue = (int) currentYNoise;
-				}
+			double currentCellValue = featurePoints.getCellValue(currentX, currentY);
+			double featureX = currentX + currentCellValue;
+			double featureY = currentY + currentCellValue;
+			double currentDistance = distance.between(featureX - adjustedX, featureY - adjustedY);
+
+			if (currentDistance < minimumDistance || (currentDistance == minimumDistance && SEARCH_ORDER[i] < minimumSearchOrder)) {
+				secondDistance = minimumDistance;
+				minimumDistance = currentDistance;
+				minimumSearchOrder = SEARCH_ORDER[i];
+				nearestX = (int) featureX;
+				nearestY = (int) featureY;
+			} else if (currentDistance < secondDistance) {
+				secondDistance = currentDistance;
 			}
 		}
 
-		return calculateCellValue(xNoiseValue, yNoiseValue, this.seed);
+		sample[SAMPLE_CELL_VALUE] = featurePoints.getCellValue(nearestX, nearestY);
+		sample[SAMPLE_NEAREST_DISTANCE] = minimumDistance;
+		sample[SAMPLE_SECOND_DISTANCE] = secondDistance;
+	}
+
+	/**
+	 * Builds the {@link FeaturePointGrid} covering every cell that the neighborhood searches within the given region of this map can visit.
+	 */
+	private FeaturePointGrid createFeaturePointGrid(final int startX, final int startY, final int endX, final int endY) {
+		int minimumCellX = (int) ((startX / (double) this.height) * this.frequency) - SEARCH_RADIUS;
+		int minimumCellY = (int) ((startY / (double) this.width) * this.frequency) - SEARCH_RADIUS;
+		int maximumCellX = (int) (((endX - 1) / (double) this.height) * this.frequency) + SEARCH_RADIUS;
+		int maximumCellY = (int) (((endY - 1) / (double) this.width) * this.frequency) + SEARCH_RADIUS;
+
+		return new FeaturePointGrid(this.seed, minimumCellX, minimumCellY, maximumCellX, maximumCellY);
 	}
 
 	@Override
-	protected double[][] generateNoiseArray() {
-		double[][] noise = new double[this.height][this.width];
-		double[][] maskNoise = this.noiseMask.getMask();
-
-		for (int y = 0; y < this.height; y++) {
-			for (int x = 0; x < this.width; x++) {
-				noise[y][x] = generateNoiseValue(x, y);
-				noise[y][x] = Math.max(0, noise[y][x] - maskNoise[y][x]);
-			}
+	protected double[] generateNoiseValues() {
+		return generateChannelArrays(new VoronoiChannel[] {this.channel})[0];
+	}
+
+	/**
+	 * Generates the masked row-major noise arrays of every given channel in a single traversal of this map.
+	 */
+	private double[][] generateChannelArrays(final VoronoiChannel[] channels) {
+		double[][] noise = new double[channels.length][];
+
+		for (int channel = 0; channel < channels.length; channel++) {
+			noise[channel] = allocateNoiseArray(this.height, this.width);
+		}
+
+		NoiseMask mask = this.noiseMask.isIdentity() ? null : this.noiseMask;
+
+		if (this.parallel) {
+			ForkJoinPool.commonPool().invoke(new TileTask(noise, mask, channels, 0, 0, this.width, this.height));
+		} else {
+			generateChannelTile(noise, mask, channels, 0, 0, this.width, this.height);
 		}
 
 		return noise;
 	}
 
-	private double calculateDistance(final double x1, final double y1, final double x2, final double y2, final DistanceFormula distanceFormula) {
-		return distanceFormula.calculate(x1, y1, x2, y2);
+	/**
+	 * Generates and masks the given region of every channel using a {@link FeaturePointGrid} that only covers the region and its search margin.
+	 */
+	private void generateChannelTile(final double[][] noise, final NoiseMask mask, final VoronoiChannel[] channels, final int startX, final int startY, final int endX, final int endY) {
+		FeaturePointGrid featurePoints = createFeaturePointGrid(startX, startY, endX, endY);
+
+		for (int y = startY; y < endY; y++) {
+			int offset = y * this.width;
+
+			generateChannelRows(featurePoints, y, startX, endX, channels, noise, offset);
+
+			if (mask != null) {
+				for (double[] channelNoise : noise) {
+					mask.applyToRow(y, channelNoise, offset, startX, endX);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies the parameters of this {@link VoronoiNoiseGenerator} without the last generated map.
+	 */
+	@Override
+	protected VoronoiNoiseGenerator copy() {
+		VoronoiNoiseGenerator copy = (VoronoiNoiseGenerator) super.copy();
+		copy.noise = null;
+		return copy;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	@Override
+	public void stream(final NoiseRowSink sink) throws IllegalArgumentException {
+		stream(0, this.height, sink);
 	}
 
-	private double calculateCellValue(final int x, final int y, final long seed) {
-		long hash = (0x653 * x + 0x1B3B * y + 0x3F5 * seed);
-		return (((hash * (hash * hash * 0xEC4D + 0x131071F) + 0x5208DD0D) & Integer.MAX_VALUE) / (double) 0x40000000) / 2;
+	@Override
+	protected boolean hasIndependentRows() {
+		return true;
+	}
+
+	@Override
+	protected void stream(final int startY, final int endY, final NoiseMask mask, final NoiseRowSink sink) {
+		VoronoiChannel[] channels = new VoronoiChannel[] {this.channel};
+		double[][] rows = new double[][] {new double[this.width]};
+		double[] row = rows[0];
+		FeaturePointGrid featurePoints = createFeaturePointGrid(0, startY, this.width, endY);
+
+		for (int y = startY; y < endY; y++) {
+			generateChannelRows(featurePoints, y, 0, this.width, channels, rows, 0);
+			mask.applyToRow(y, row, 0, this.width);
+
+			sink.accept(y, row);
+		}
+	}
+
+	@Override
+	public VoronoiNoise generate(final NoiseStorage noiseStorage) throws IllegalArgumentException {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("A voronoi noise storage cannot be null.");
+		} else if (noiseStorage.getHeight() != this.height || noiseStorage.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise storage do not match those of this voronoi noise map.");
+		}
+
+		this.noiseMask = createNoiseMask();
+		stream(noiseStorage::writeRow);
+
+		return new VoronoiNoise(this.seed, noiseStorage, this.noiseMask, this.distanceFormula, this.minkowskiExponent, this.channel, this.frequency);
+	}
+
+	/**
+	 * Calculates a lower bound of the distance between the given point and any feature point within the given cell.
+	 * Every {@link DistanceFormula} is at least the largest difference along a single axis, which is the gap between the point and the cell bounds.
+	 * The gap is shrunk slightly so the rounding of the formulas can never prune the true nearest feature point.
+	 */
+	private static double calculateCellGap(final int cellX, final int cellY, final double x, final double y) {
+		double gapX = Math.max(cellX - x, x - (cellX + 1));
+		double gapY = Math.max(cellY - y, y - (cellY + 1));
+
+		return Math.max(0, Math.max(gapX, gapY)) * PRUNE_TOLERANCE;
+	}
+
+	/**
+	 * Calculates a lower bound of the distance between a point, given by its offset within its own cell, and any feature point within the outer ring of the search.
+	 */
+	private static double calculateRingGap(final double offsetX, final double offsetY) {
+		double gapX = Math.min(1 + offsetX, 2 - offsetX);
+		double gapY = Math.min(1 + offsetY, 2 - offsetY);
+
+		return Math.min(gapX, gapY) * PRUNE_TOLERANCE;
+	}
+
+	/**
+	 * A fork-join task that splits a region of the map along its longer side until it fits within a single tile, which is then generated with its own {@link FeaturePointGrid}.
+	 */
+	private final class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final double[][] noise;
+		private final NoiseMask mask;
+		private final VoronoiChannel[] channels;
+		private final int startX;
+		private final int startY;
+		private final int endX;
+		private final int endY;
+
+		private TileTask(final double[][] noise, final NoiseMask mask, final VoronoiChannel[] channels, final int startX, final int startY, final int endX, final int endY) {
+			this.noise = noise;
+			this.mask = mask;
+			this.channels = channels;
+			this.startX = startX;
+			this.startY = startY;
+			this.endX = endX;
+			this.endY = endY;
+		}
+
+		@Override
+		protected void compute() {
+			int tileWidth = this.endX - this.startX;
+			int tileHeight = this.endY - this.startY;
+
+			if (tileWidth <= PARALLEL_TILE_SIZE && tileHeight <= PARALLEL_TILE_SIZE) {
+				generateChannelTile(this.noise, this.mask, this.channels, this.startX, this.startY, this.endX, this.endY);
+				return;
+			}
+
+			if (tileWidth >= tileHeight) {
+				int middleX = (this.startX + this.endX) >>> 1;
+
+				invokeAll(new TileTask(this.noise, this.mask, this.channels, this.startX, this.startY, middleX, this.endY),
+						new TileTask(this.noise, this.mask, this.channels, middleX, this.startY, this.endX, this.endY));
+			} else {
+				int middleY = (this.startY + this.endY) >>> 1;
+
+				invokeAll(new TileTask(this.noise, this.mask, this.channels, this.startX, this.startY, this.endX, middleY),
+						new TileTask(this.noise, this.mask, this.channels, this.startX, middleY, this.endX, this.endY));
+			}
+		}
 	}
 }
@@ -1,6 +1,7 @@
 package me.christopherwmm.terra.noise.white;
 
 import me.christopherwmm.terra.noise.Noise;
+import me.christopherwmm.terra.noise.NoiseStorage;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 
 /**
@@ -17,15 +18,27 @@ public class WhiteNoise extends Noise {
 	 * @param height The non-zero integer height of this {@link WhiteNoise} object.
 	 * @param width The non-zero integer width of this {@link WhiteNoise} object.
 	 * @param seed The long seed used to generate this {@link WhiteNoise} object.
-	 * @param noise The 2D double array containing the individual mask values of this {@link WhiteNoise} object.
+	 * @param noise The row-major double array containing the individual values of this {@link WhiteNoise} object, which is taken over without being copied.
 	 * @param noiseMask The {@link NoiseMask} being applied to this {@link WhiteNoise} object.
 	 */
-	WhiteNoise(final int height, final int width, final long seed, final double[][] noise, final NoiseMask noiseMask) {
+	WhiteNoise(final int height, final int width, final long seed, final double[] noise, final NoiseMask noiseMask) {
 		super(height, width, seed, noise, noiseMask);
 	}
 
 	/**
-	 * Constructs a new {@link WhiteNoise} object that is a deep copy based on the given {@link WhiteNoise} object.
+	 * Constructs a new {@link WhiteNoise} object whose values are held by the given {@link NoiseStorage}, which may live outside of the heap.
+	 * 
+	 * @param seed The long seed used to generate this {@link WhiteNoise} object.
+	 * @param noiseStorage The {@link NoiseStorage} containing the individual values of this {@link WhiteNoise} object.
+	 * @param noiseMask The {@link NoiseMask} being applied to this {@link WhiteNoise} object.
+	 * @since 1.1
+	 */
+	WhiteNoise(final long seed, final NoiseStorage noiseStorage, final NoiseMask noiseMask) {
+		super(seed, noiseStorage, noiseMask);
+	}
+
+	/**
+	 * Constructs a new {@link WhiteNoise} object that is a copy of the given {@link WhiteNoise} object, sharing its immutable values.
 	 * 
 	 * @param whiteNoise The {@link WhiteNoise} object being copied.
 	 * @since 1.0
@@ -35,9 +48,9 @@ public class WhiteNoise extends Noise {
 	}
 
 	/**
-	 * Returns a new {@link WhiteNoise} object that is a deep copy of this {@link WhiteNoise} object.
+	 * Returns a new {@link WhiteNoise} object that is a copy of this {@link WhiteNoise} object, sharing its immutable values in constant time.
 	 * 
-	 * @return A new {@link WhiteNoise} object that is a deep copy of this {@link WhiteNoise} object.
+	 * @return A new {@link WhiteNoise} object that is a copy of this {@link WhiteNoise} object.
 	 * @since 1.0
 	 */
 	public WhiteNoise clone() {
@@ -1,10 +1,14 @@
 package me.christopherwmm.terra.noise.white;
 
-import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import me.christopherwmm.terra.noise.NoiseGenerator;
+import me.christopherwmm.terra.noise.NoiseRowSink;
+import me.christopherwmm.terra.noise.NoiseStorage;
+import me.christopherwmm.terra.noise.RowBands;
 import me.christopherwmm.terra.noise.mask.NoiseMask;
 import me.christopherwmm.terra.noise.mask.NoiseMaskGenerator;
+import me.christopherwmm.terra.noise.mask.SignedDistanceMaskGenerator;
 
 /**
  * A concrete subclass of {@link NoiseGenerator} used to generate pseudo-random {@link WhiteNoise} objects.
@@ -22,17 +26,17 @@ public class WhiteNoiseGenerator extends NoiseGenerator<WhiteNoise> {
 	/** The long seed used by this {@link WhiteNoiseGenerator} to create a new {@link WhiteNoise} object. */
 	private long seed;
 
-	/** The 2D double array containing the individual values of the generated {@link WhiteNoise} used by this {@link WhiteNoiseGenerator} to create a new {@link WhiteNoise} object. */
-	private double[][] noise;
-
-	/** The {@link NoiseMask} intensity used by this {@link WhiteNoiseGenerator} to create a new {@link WhiteNoise} object. */
-	private double noiseMaskIntensity;
+	/** The row-major double array containing the individual values of the generated {@link WhiteNoise} used by this {@link WhiteNoiseGenerator} to create a new {@link WhiteNoise} object. */
+	private double[] noise;
 
 	/** The {@link NoiseMask} used by this {@link WhiteNoiseGenerator} to create a new {@link WhiteNoise} object. */
 	private NoiseMask noiseMask;
 
-	/** The {@link Random} object used by this {@link WhiteNoiseGenerator} to create a new {@link WhiteNoise} object. */
-	private final Random random;
+	/** Whether this {@link WhiteNoiseGenerator} fills new {@link WhiteNoise} objects in parallel. */
+	private boolean parallel;
+
+	/** The odd 64-bit golden ratio constant used by SplitMix to spread consecutive counters across the whole state space. */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
 
 	/**
 	 * Constructs a new {@link WhiteNoiseGenerator} object with default values.
@@ -42,15 +46,12 @@ public class WhiteNoiseGenerator extends NoiseGenerator<WhiteNoise> {
 		this.height = 512;
 		this.width = 512;
 		this.seed = 0;
-		this.noise = new double[this.height][this.width];
-		this.noiseMaskIntensity = 0;
 		this.noiseMask = new NoiseMaskGenerator()
 							.height(this.height)
 							.width(this.width)
-							.intensity(this.noiseMaskIntensity)
+							.intensity(0)
 							.generate();
-
-		this.random = new Random();
+		this.parallel = false;
 	}
 
 	/**
@@ -96,7 +97,19 @@ public class WhiteNoiseGenerator extends NoiseGenerator<WhiteNoise> {
 	 */
 	public WhiteNoiseGenerator seed(final long seed) {
 		this.seed = seed;
-		this.random.setSeed(seed);
+		return this;
+	}
+
+	/**
+	 * Sets whether this {@link WhiteNoiseGenerator} splits the noise map into row bands that are filled across the common {@link ForkJoinPool}.
+	 * Every value depends only on the seed and its own coordinates, so the parallel output is bit-identical to the sequential output.
+	 * 
+	 * @param parallel Whether the generated {@link WhiteNoise} object should be filled in parallel.
+	 * @return The {@link WhiteNoiseGenerator} object with the desired parallelism.
+	 * @since 1.1
+	 */
+	public WhiteNoiseGenerator parallel(final boolean parallel) {
+		this.parallel = parallel;
 		return this;
 	}
 
@@ -109,11 +122,21 @@ public class WhiteNoiseGenerator extends NoiseGenerator<WhiteNoise> {
 	 * @since 1.0
 	 */
 	public WhiteNoiseGenerator noiseMask(final double noiseMaskIntensity) throws IllegalArgumentException {
-		if (noiseMaskIntensity < 0 || noiseMaskIntensity > 1) {
-			throw new IllegalArgumentException("A white noise mask intensity must be a positive value between zero and one. " + noiseMaskIntensity + " is outside that interval.");
-		}
+		setNoiseMaskIntensity(noiseMaskIntensity);
+		return this;
+	}
 
-		this.noiseMaskIntensity = noiseMaskIntensity;
+	/**
+	 * Sets a custom {@link NoiseMask}, such as one built by a {@link SignedDistanceMaskGenerator}, in place of the edge fading mask.
+	 * The mask is sampled row by row during the final pass, so it is never materialized unless it already was.
+	 * 
+	 * @param noiseMask The {@link NoiseMask} with the same dimensions as the generated map.
+	 * @return The {@link WhiteNoiseGenerator} object with the desired {@link NoiseMask}.
+	 * @throws IllegalArgumentException if the given {@link NoiseMask} is null.
+	 * @since 1.1
+	 */
+	public WhiteNoiseGenerator noiseMask(final NoiseMask noiseMask) throws IllegalArgumentException {
+		setNoiseMask(noiseMask);
 		return this;
 	}
 
@@ -125,48 +148,148 @@ public class WhiteNoiseGenerator extends NoiseGenerator<WhiteNoise> {
 	 */
 	@Override
 	public WhiteNoise generate() {
-		this.noiseMask = new NoiseMaskGenerator()
-				.height(this.height)
-				.width(this.width)
-				.intensity(this.noiseMaskIntensity)
-				.generate();
+		this.noiseMask = createNoiseMask();
 
-		this.noise = generateNoiseArray();
+		this.noise = generateNoiseValues();
 
 		return new WhiteNoise(this.height, this.width, this.seed, this.noise, this.noiseMask);
 	}
 
 	/**
 	 * Generates the {@link WhiteNoise} value at the specified x and y coordinates based on the specific parameters entered into this {@link NoiseGenerator} object.
+	 * The value is a stateless hash of the seed and coordinates, so every pixel can be reproduced on its own in any order.
 	 * 
 	 * @param x The non-zero integer x coordinate of the {@link WhiteNoise} value being generated.
 	 * @param y The non-zero integer x coordinate of the {@link WhiteNoise} value being generated.
-	 * @return The WhiteNoise value for the specified x and y coordinates.
+	 * @return The WhiteNoise value within the interval <b>[0.0 - 1.0)</b> for the specified x and y coordinates.
 	 * @since 1.0
 	 */
 	@Override
 	protected double generateNoiseValue(final int x, final int y) {
-		return this.random.nextDouble();
+		long counter = ((long) y << 32) | (x & 0xFFFFFFFFL);
+		long hash = mix(mix(this.seed) + counter * GOLDEN_GAMMA);
+
+		return (hash >>> 11) * 0x1.0p-53;
 	}
 
 	/**
-	 * Generates the 2D array of {@link WhiteNoise} values corresponding to the parameters entered into this {@link WhiteNoiseGenerator} object.
+	 * Applies the SplitMix64 finalizer, a bijective mix in which every input bit affects every output bit.
 	 * 
-	 * @return The 2D array of WhiteNoise values corresponding to the entered parameters.
+	 * @param value The long value being mixed.
+	 * @return The mixed long value.
+	 */
+	private static long mix(final long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		return mixed ^ (mixed >>> 31);
+	}
+
+	/**
+	 * Generates the row-major array of {@link WhiteNoise} values corresponding to the parameters entered into this {@link WhiteNoiseGenerator} object.
+	 * 
+	 * @return The row-major array of WhiteNoise values corresponding to the entered parameters.
 	 * @since 1.0
 	 */
 	@Override
-	protected double[][] generateNoiseArray() {
-		double[][] noise = new double[this.height][this.width];
-		double[][] maskNoise = this.noiseMask.getMask();
+	protected double[] generateNoiseValues() {
+		double[] noise = allocateNoiseArray(this.height, this.width);
+		NoiseMask mask = this.noiseMask.isIdentity() ? null : this.noiseMask;
+
+		if (this.parallel) {
+			RowBands.forEach(0, this.height, (startY, endY) -> generateNoiseBand(noise, mask, startY, endY));
+		} else {
+			generateNoiseBand(noise, mask, 0, this.height);
+		}
+
+		return noise;
+	}
+
+	/**
+	 * Fills and masks the given band of rows of the given noise array.
+	 * 
+	 * @param noise The row-major double array being filled.
+	 * @param mask The {@link NoiseMask} applied to each row, or null if it has no effect.
+	 * @param startY The first row of the band.
+	 * @param endY The row after the last row of the band.
+	 */
+	private void generateNoiseBand(final double[] noise, final NoiseMask mask, final int startY, final int endY) {
+		for (int y = startY; y < endY; y++) {
+			int offset = y * this.width;
+
+			for (int x = 0; x < this.width; x++) {
+				noise[offset + x] = generateNoiseValue(x, y);
+			}
+
+			if (mask != null) {
+				mask.applyToRow(y, noise, offset, 0, this.width);
+			}
+		}
+	}
+
+	/**
+	 * Copies the parameters of this {@link WhiteNoiseGenerator} without the last generated map.
+	 */
+	@Override
+	protected WhiteNoiseGenerator copy() {
+		WhiteNoiseGenerator copy = (WhiteNoiseGenerator) super.copy();
+		copy.noise = null;
+		return copy;
+	}
+
+	@Override
+	public int getHeight() {
+		return this.height;
+	}
+
+	@Override
+	public int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Streams the {@link WhiteNoise} values corresponding to the parameters entered into this {@link WhiteNoiseGenerator} object one row at a time.
+	 * Every value depends only on the seed and its coordinates, so the streamed rows match the rows of {@link #generate()} exactly.
+	 * 
+	 * @param sink The {@link NoiseRowSink} accepting each finished row.
+	 * @throws IllegalArgumentException if the given sink is null.
+	 * @since 1.1
+	 */
+	@Override
+	public void stream(final NoiseRowSink sink) throws IllegalArgumentException {
+		stream(0, this.height, sink);
+	}
+
+	@Override
+	protected boolean hasIndependentRows() {
+		return true;
+	}
+
+	@Override
+	protected void stream(final int startY, final int endY, final NoiseMask mask, final NoiseRowSink sink) {
+		double[] row = new double[this.width];
 
-		for (int y = 0; y < this.height; y++) {
+		for (int y = startY; y < endY; y++) {
 			for (int x = 0; x < this.width; x++) {
-				noise[y][x] = generateNoiseValue(x, y);
-				noise[y][x] = Math.max(0, noise[y][x] - maskNoise[y][x]);
+				row[x] = generateNoiseValue(x, y);
 			}
+
+			mask.applyToRow(y, row, 0, this.width);
+
+			sink.accept(y, row);
 		}
+	}
 
-		return noise;
+	@Override
+	public WhiteNoise generate(final NoiseStorage noiseStorage) throws IllegalArgumentException {
+		if (noiseStorage == null) {
+			throw new IllegalArgumentException("A white noise storage cannot be null.");
+		} else if (noiseStorage.getHeight() != this.height || noiseStorage.getWidth() != this.width) {
+			throw new IllegalArgumentException("The dimensions of the given noise storage do not match those of this white noise map.");
+		}
+
+		this.noiseMask = createNoiseMask();
+		stream(noiseStorage::writeRow);
+
+		return new WhiteNoise(this.seed, noiseStorage, this.noiseMask);
 	}
 }